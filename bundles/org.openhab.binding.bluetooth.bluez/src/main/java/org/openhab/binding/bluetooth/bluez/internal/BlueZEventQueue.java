@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.bluez.internal;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.bluetooth.bluez.internal.events.BlueZEvent;
+import org.openhab.binding.bluetooth.bluez.internal.events.ManufacturerDataEvent;
+import org.openhab.binding.bluetooth.bluez.internal.events.NameEvent;
+import org.openhab.binding.bluetooth.bluez.internal.events.RssiEvent;
+import org.openhab.binding.bluetooth.bluez.internal.events.TXPowerEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link BlueZEventQueue} decouples the dispatching of {@link BlueZEvent}s from the dbus thread that receives
+ * them. The events are queued and dispatched in batches by a single task on the executor, in the order they have been
+ * received, so a slow listener doesn't block the dbus connection.
+ * <p>
+ * Events that carry the current value of a device property, like the RSSI or the manufacturer data, replace a queued
+ * event of the same kind and path, so only the latest value is dispatched. The replacing event moves to the end of the
+ * queue, so it is dispatched after all events that have been received before it. If the listeners fall behind and the
+ * queue is full, new property events are dropped. All other events, like connection state changes and characteristic
+ * values, are never merged or dropped.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BlueZEventQueue {
+
+    static final int MAX_PENDING_EVENTS = 4096;
+
+    private final Logger logger = LoggerFactory.getLogger(BlueZEventQueue.class);
+
+    private final Executor executor;
+    private final Consumer<BlueZEvent> dispatcher;
+
+    private Map<Object, BlueZEvent> pending = new LinkedHashMap<>();
+    private boolean draining = false;
+    private long sequence = 0;
+    private int dropped = 0;
+
+    /**
+     * @param executor Runs the dispatching, only one task at a time is submitted to it
+     * @param dispatcher Is called for each event
+     */
+    public BlueZEventQueue(Executor executor, Consumer<BlueZEvent> dispatcher) {
+        this.executor = executor;
+        this.dispatcher = dispatcher;
+    }
+
+    public void add(BlueZEvent event) {
+        synchronized (this) {
+            if (isMergeable(event)) {
+                String key = event.getClass().getName() + event.getDbusPath();
+                if (pending.remove(key) == null && pending.size() >= MAX_PENDING_EVENTS) {
+                    dropped++;
+                    return;
+                }
+                pending.put(key, event);
+            } else {
+                pending.put(sequence++, event);
+            }
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Unable to dispatch BlueZ events: {}", e.getMessage());
+            synchronized (this) {
+                draining = false;
+                pending.clear();
+            }
+        }
+    }
+
+    private static boolean isMergeable(BlueZEvent event) {
+        return event instanceof RssiEvent || event instanceof ManufacturerDataEvent || event instanceof TXPowerEvent
+                || event instanceof NameEvent;
+    }
+
+    private void drain() {
+        while (true) {
+            Collection<BlueZEvent> batch;
+            int droppedEvents;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    draining = false;
+                    return;
+                }
+                batch = pending.values();
+                pending = new LinkedHashMap<>();
+                droppedEvents = dropped;
+                dropped = 0;
+            }
+            if (droppedEvents > 0) {
+                logger.debug("Dropped {} BlueZ events because the listeners fell behind", droppedEvents);
+            }
+            logger.trace("Dispatching {} BlueZ events", batch.size());
+            for (BlueZEvent event : batch) {
+                try {
+                    dispatcher.accept(event);
+                } catch (RuntimeException e) {
+                    logger.warn("Error while dispatching {}", event, e);
+                }
+            }
+        }
+    }
+}
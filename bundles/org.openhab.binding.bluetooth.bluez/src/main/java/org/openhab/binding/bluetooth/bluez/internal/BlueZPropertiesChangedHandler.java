@@ -16,7 +16,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -36,7 +39,7 @@ import org.openhab.binding.bluetooth.bluez.internal.events.NameEvent;
 import org.openhab.binding.bluetooth.bluez.internal.events.RssiEvent;
 import org.openhab.binding.bluetooth.bluez.internal.events.ServicesResolvedEvent;
 import org.openhab.binding.bluetooth.bluez.internal.events.TXPowerEvent;
-import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.common.NamedThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,7 +57,15 @@ public class BlueZPropertiesChangedHandler extends AbstractPropertiesChangedHand
 
     private final Set<BlueZEventListener> listeners = new CopyOnWriteArraySet<>();
 
-    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("bluetooth");
+    private final BlueZEventQueue eventQueue = new BlueZEventQueue(createExecutor(), this::dispatch);
+
+    private static ExecutorService createExecutor() {
+        // a dedicated thread, so that slow listeners don't hold up the shared pool
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new NamedThreadFactory("bluez-events", true));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 
     public void addListener(BlueZEventListener listener) {
         this.listeners.add(listener);
@@ -65,6 +76,10 @@ public class BlueZPropertiesChangedHandler extends AbstractPropertiesChangedHand
     }
 
     private void notifyListeners(BlueZEvent event) {
+        eventQueue.add(event);
+    }
+
+    private void dispatch(BlueZEvent event) {
         for (BlueZEventListener listener : this.listeners) {
             event.dispatch(listener);
         }
@@ -82,54 +97,51 @@ public class BlueZPropertiesChangedHandler extends AbstractPropertiesChangedHand
             return;
         }
 
-        // do this asynchronously so that we don't slow things down for the dbus event dispatcher
-        scheduler.execute(() -> {
-
-            String dbusPath = properties.getPath();
-            changedProperties.forEach((key, variant) -> {
-                if (key == null || variant == null) {
-                    return;
-                }
-                switch (key.toLowerCase()) {
-                    case "rssi":
-                        // Signal Update
-                        onRSSIUpdate(dbusPath, variant);
-                        break;
-                    case "txpower":
-                        // TxPower
-                        onTXPowerUpdate(dbusPath, variant);
-                        break;
-                    case "value":
-                        // Characteristc value updated
-                        onValueUpdate(dbusPath, variant);
-                        break;
-                    case "connected":
-                        onConnectedUpdate(dbusPath, variant);
-                        break;
-                    case "name":
-                        onNameUpdate(dbusPath, variant);
-                        break;
-                    case "alias":
-                        // TODO
-                        break;
-                    case "manufacturerdata":
-                        onManufacturerDataUpdate(dbusPath, variant);
-                        break;
-                    case "powered":
-                        onPoweredUpdate(dbusPath, variant);
-                        break;
-                    case "discovering":
-                        onDiscoveringUpdate(dbusPath, variant);
-                        break;
-                    case "servicesresolved":
-                        onServicesResolved(dbusPath, variant);
-                        break;
-                }
-            });
-
-            logger.debug("PropertiesPath: {}", dbusPath);
-            logger.debug("PropertiesChanged: {}", changedProperties);
+        // the events are only created here, the dispatching to the listeners is done by the event queue
+        String dbusPath = properties.getPath();
+        changedProperties.forEach((key, variant) -> {
+            if (key == null || variant == null) {
+                return;
+            }
+            switch (key.toLowerCase()) {
+                case "rssi":
+                    // Signal Update
+                    onRSSIUpdate(dbusPath, variant);
+                    break;
+                case "txpower":
+                    // TxPower
+                    onTXPowerUpdate(dbusPath, variant);
+                    break;
+                case "value":
+                    // Characteristc value updated
+                    onValueUpdate(dbusPath, variant);
+                    break;
+                case "connected":
+                    onConnectedUpdate(dbusPath, variant);
+                    break;
+                case "name":
+                    onNameUpdate(dbusPath, variant);
+                    break;
+                case "alias":
+                    // TODO
+                    break;
+                case "manufacturerdata":
+                    onManufacturerDataUpdate(dbusPath, variant);
+                    break;
+                case "powered":
+                    onPoweredUpdate(dbusPath, variant);
+                    break;
+                case "discovering":
+                    onDiscoveringUpdate(dbusPath, variant);
+                    break;
+                case "servicesresolved":
+                    onServicesResolved(dbusPath, variant);
+                    break;
+            }
         });
+
+        logger.debug("PropertiesPath: {}", dbusPath);
+        logger.debug("PropertiesChanged: {}", changedProperties);
     }
 
     private void onDiscoveringUpdate(String dbusPath, Variant<?> variant) {
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.bluez.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.bluetooth.bluez.internal.events.BlueZEvent;
+import org.openhab.binding.bluetooth.bluez.internal.events.CharacteristicUpdateEvent;
+import org.openhab.binding.bluetooth.bluez.internal.events.ConnectedEvent;
+import org.openhab.binding.bluetooth.bluez.internal.events.RssiEvent;
+
+/**
+ * Tests {@link BlueZEventQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BlueZEventQueueTest {
+
+    private static final String DEVICE1 = "/org/bluez/hci0/dev_00_CC_3F_B2_7E_60";
+    private static final String DEVICE2 = "/org/bluez/hci0/dev_A4_34_D9_ED_D3_74";
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<BlueZEvent> dispatched = new ArrayList<>();
+    private final BlueZEventQueue queue = new BlueZEventQueue(tasks::add, dispatched::add);
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Test
+    public void testLatestValueIsDispatched() {
+        // replay a burst of signals from two devices while the dispatching is behind
+        for (int i = 0; i < 1000; i++) {
+            queue.add(new RssiEvent(DEVICE1, (short) -i));
+            queue.add(new RssiEvent(DEVICE2, (short) (-i - 1)));
+        }
+        assertEquals(1, tasks.size());
+        runTasks();
+
+        assertEquals(2, dispatched.size());
+        assertEquals(-999, ((RssiEvent) dispatched.get(0)).getRssi());
+        assertEquals(-1000, ((RssiEvent) dispatched.get(1)).getRssi());
+    }
+
+    @Test
+    public void testNotificationsAreNotMerged() {
+        queue.add(new CharacteristicUpdateEvent(DEVICE1 + "/service0026/char0027", new byte[] { 1 }));
+        queue.add(new RssiEvent(DEVICE1, (short) -50));
+        queue.add(new CharacteristicUpdateEvent(DEVICE1 + "/service0026/char0027", new byte[] { 2 }));
+        runTasks();
+
+        assertEquals(3, dispatched.size());
+        assertArrayEquals(new byte[] { 1 }, ((CharacteristicUpdateEvent) dispatched.get(0)).getData());
+        assertArrayEquals(new byte[] { 2 }, ((CharacteristicUpdateEvent) dispatched.get(2)).getData());
+    }
+
+    @Test
+    public void testMergedEventMovesToTheEnd() {
+        queue.add(new RssiEvent(DEVICE1, (short) -50));
+        queue.add(new ConnectedEvent(DEVICE1, true));
+        queue.add(new RssiEvent(DEVICE1, (short) -60));
+        runTasks();
+
+        assertEquals(2, dispatched.size());
+        assertTrue(dispatched.get(0) instanceof ConnectedEvent);
+        assertEquals(-60, ((RssiEvent) dispatched.get(1)).getRssi());
+    }
+
+    @Test
+    public void testQueueIsBounded() {
+        for (int i = 0; i < BlueZEventQueue.MAX_PENDING_EVENTS + 10; i++) {
+            queue.add(new RssiEvent(DEVICE1 + i, (short) -50));
+        }
+        runTasks();
+        assertEquals(BlueZEventQueue.MAX_PENDING_EVENTS, dispatched.size());
+
+        // the queue accepts events again after it has been drained
+        queue.add(new RssiEvent(DEVICE1, (short) -50));
+        runTasks();
+        assertEquals(BlueZEventQueue.MAX_PENDING_EVENTS + 1, dispatched.size());
+    }
+
+    @Test
+    public void testStateAndValueEventsAreNeverDropped() {
+        for (int i = 0; i < BlueZEventQueue.MAX_PENDING_EVENTS; i++) {
+            queue.add(new RssiEvent(DEVICE1 + i, (short) -50));
+        }
+        // the queue is full, but connection state changes and characteristic values are still queued
+        queue.add(new ConnectedEvent(DEVICE1, true));
+        queue.add(new CharacteristicUpdateEvent(DEVICE1 + "/service0026/char0027", new byte[] { 1 }));
+        // while new property events are dropped and queued ones are still updated
+        queue.add(new RssiEvent(DEVICE2, (short) -50));
+        queue.add(new RssiEvent(DEVICE1 + 0, (short) -70));
+        runTasks();
+
+        assertEquals(BlueZEventQueue.MAX_PENDING_EVENTS + 2, dispatched.size());
+        int last = dispatched.size() - 1;
+        assertTrue(dispatched.get(last - 2) instanceof ConnectedEvent);
+        assertTrue(dispatched.get(last - 1) instanceof CharacteristicUpdateEvent);
+        assertEquals(-70, ((RssiEvent) dispatched.get(last)).getRssi());
+    }
+}
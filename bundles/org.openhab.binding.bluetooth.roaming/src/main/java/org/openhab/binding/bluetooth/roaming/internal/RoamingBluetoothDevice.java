@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -36,20 +37,40 @@ import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
 /**
  * The {@link RoamingBluetoothDevice} acts as a roaming device by delegating
  * its operations to actual adapters.
+ * <p>
+ * The delegate is the device of the adapter that received the device with the best signal within the last seconds.
+ * Only its scan records are passed on, so an advertisement that is received by several adapters is only processed
+ * once.
  *
  * @author Connor Petty - Initial contribution
  */
 @NonNullByDefault
 public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
 
+    /**
+     * The time in which a scan record counts as a recent sighting of the device by an adapter.
+     */
+    private static final long SIGHTING_WINDOW = TimeUnit.SECONDS.toNanos(5);
+    /**
+     * The RSSI advantage in dBm that the current delegate has over the other adapters.
+     */
+    private static final int HYSTERESIS = 5;
+    /**
+     * The RSSI penalty in dBm of an adapter for each connection of another roaming device it has.
+     */
+    private static final int LOAD_PENALTY = 10;
+
     private final Map<BluetoothDevice, Listener> devices = new ConcurrentHashMap<>();
 
     private final List<BluetoothDeviceListener> eventListeners = new CopyOnWriteArrayList<>();
 
     private final AtomicReference<@Nullable BluetoothDevice> currentDelegateRef = new AtomicReference<>();
 
+    private final RoamingBridgeHandler roamingAdapter;
+
     protected RoamingBluetoothDevice(RoamingBridgeHandler roamingAdapter, BluetoothAddress address) {
         super(roamingAdapter, address);
+        this.roamingAdapter = roamingAdapter;
     }
 
     public void addBluetoothDevice(BluetoothDevice device) {
@@ -70,20 +91,96 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
 
     @Override
     protected @Nullable BluetoothDevice getDelegate() {
-        BluetoothDevice newDelegate = null;
-        int newRssi = Integer.MIN_VALUE;
+        BluetoothDevice connected = getConnectedDevice();
+        if (connected != null) {
+            return setDelegate(connected);
+        }
+        return setDelegate(selectDevice(false));
+    }
+
+    /**
+     * Connects through the adapter that received the device best recently and has the least connections of other
+     * roaming devices.
+     */
+    @Override
+    public boolean connect() {
+        BluetoothDevice delegate = getConnectedDevice();
+        if (delegate == null) {
+            delegate = setDelegate(selectDevice(true));
+        }
+        return delegate != null ? delegate.connect() : false;
+    }
+
+    /**
+     * @return true if this device has a connection or is connecting through the given adapter
+     */
+    boolean isConnectedThrough(BluetoothAdapter adapter) {
+        BluetoothDevice delegate = currentDelegateRef.get();
+        return delegate != null && delegate.getAdapter() == adapter && isConnected(delegate);
+    }
+
+    private static boolean isConnected(BluetoothDevice device) {
+        ConnectionState state = device.getConnectionState();
+        return state == ConnectionState.CONNECTING || state == ConnectionState.CONNECTED;
+    }
+
+    private @Nullable BluetoothDevice getConnectedDevice() {
+        BluetoothDevice current = currentDelegateRef.get();
+        if (current != null && devices.containsKey(current) && isConnected(current)) {
+            return current;
+        }
         for (BluetoothDevice device : devices.keySet()) {
-            ConnectionState state = device.getConnectionState();
-            if (state == ConnectionState.CONNECTING || state == ConnectionState.CONNECTED) {
-                newDelegate = device;
-                break;
+            if (isConnected(device)) {
+                return device;
             }
-            Integer rssi = device.getRssi();
-            if (rssi != null && (newDelegate == null || rssi > newRssi)) {
-                newRssi = rssi;
-                newDelegate = device;
+        }
+        return null;
+    }
+
+    /**
+     * Selects the device of the adapter with the best signal. The current delegate is only replaced if another
+     * adapter received the device clearly better, so that the delegate doesn't change with every advertisement.
+     *
+     * @param weighLoad Whether the connections of the adapters are taken into account
+     */
+    private @Nullable BluetoothDevice selectDevice(boolean weighLoad) {
+        long now = System.nanoTime();
+        BluetoothDevice current = currentDelegateRef.get();
+        BluetoothDevice best = null;
+        int bestScore = Integer.MIN_VALUE;
+        boolean bestRecent = false;
+        for (Map.Entry<BluetoothDevice, Listener> entry : devices.entrySet()) {
+            BluetoothDevice device = entry.getKey();
+            Listener listener = entry.getValue();
+            boolean recent = listener.isRecentlySeen(now);
+            // devices that have been received recently always beat those that haven't
+            if (bestRecent && !recent) {
+                continue;
+            }
+            Integer rssi = recent ? Integer.valueOf(listener.rssi) : device.getRssi();
+            if (rssi == null) {
+                if (best == null) {
+                    best = device;
+                }
+                continue;
+            }
+            int score = rssi;
+            if (weighLoad) {
+                score -= LOAD_PENALTY * roamingAdapter.getConnectionCount(device.getAdapter());
+            }
+            if (device == current) {
+                score += HYSTERESIS;
+            }
+            if (best == null || (recent && !bestRecent) || score > bestScore) {
+                best = device;
+                bestScore = score;
+                bestRecent = recent;
             }
         }
+        return best;
+    }
+
+    private @Nullable BluetoothDevice setDelegate(@Nullable BluetoothDevice newDelegate) {
         BluetoothDevice oldDelegate = currentDelegateRef.getAndSet(newDelegate);
         if (oldDelegate != newDelegate) { // using reference comparison is valid in this case
             notifyListeners(BluetoothEventType.ADAPTER_CHANGED, getAdapter(newDelegate));
@@ -108,12 +205,26 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
 
         private BluetoothDevice device;
 
+        private volatile int rssi;
+        private volatile long lastSeen;
+        private volatile boolean seen = false;
+
         public Listener(BluetoothDevice device) {
             this.device = device;
         }
 
+        boolean isRecentlySeen(long now) {
+            return seen && now - lastSeen < SIGHTING_WINDOW;
+        }
+
         @Override
         public void onScanRecordReceived(BluetoothScanNotification scanNotification) {
+            int rssi = scanNotification.getRssi();
+            if (rssi != Integer.MIN_VALUE) {
+                this.rssi = rssi;
+                lastSeen = System.nanoTime();
+                seen = true;
+            }
             if (device == getDelegate()) {
                 notifyListeners(BluetoothEventType.SCAN_RECORD, scanNotification);
             }
@@ -12,10 +12,10 @@
  */
 package org.openhab.binding.bluetooth.roaming.internal;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Stream;
 
@@ -49,7 +49,7 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
      * Note: this will only populate from handlers calling getDevice(BluetoothAddress), so we don't need
      * to do periodic cleanup.
      */
-    private Map<BluetoothAddress, RoamingBluetoothDevice> devices = new HashMap<>();
+    private final Map<BluetoothAddress, RoamingBluetoothDevice> devices = new ConcurrentHashMap<>();
     private ThingUID[] groupUIDs = new ThingUID[0];
 
     public RoamingBridgeHandler(Bridge bridge) {
@@ -151,10 +151,8 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
         this.adapters.add(adapter);
 
         if (isRoamingMember(adapter)) {
-            synchronized (devices) {
-                for (RoamingBluetoothDevice roamingDevice : devices.values()) {
-                    roamingDevice.addBluetoothDevice(adapter.getDevice(roamingDevice.getAddress()));
-                }
+            for (RoamingBluetoothDevice roamingDevice : devices.values()) {
+                roamingDevice.addBluetoothDevice(adapter.getDevice(roamingDevice.getAddress()));
             }
         }
 
@@ -171,10 +169,8 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
         this.adapters.remove(adapter);
 
         if (isRoamingMember(adapter)) {
-            synchronized (devices) {
-                for (RoamingBluetoothDevice roamingDevice : devices.values()) {
-                    roamingDevice.removeBluetoothDevice(adapter.getDevice(roamingDevice.getAddress()));
-                }
+            for (RoamingBluetoothDevice roamingDevice : devices.values()) {
+                roamingDevice.removeBluetoothDevice(adapter.getDevice(roamingDevice.getAddress()));
             }
         }
 
@@ -216,15 +212,27 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
     @Override
     public RoamingBluetoothDevice getDevice(BluetoothAddress address) {
         // this will only get called by a bluetooth device handler
-        synchronized (devices) {
-            RoamingBluetoothDevice roamingDevice = Objects
-                    .requireNonNull(devices.computeIfAbsent(address, addr -> new RoamingBluetoothDevice(this, addr)));
+        RoamingBluetoothDevice roamingDevice = Objects
+                .requireNonNull(devices.computeIfAbsent(address, addr -> new RoamingBluetoothDevice(this, addr)));
 
-            adapters.stream().filter(this::isRoamingMember)
-                    .forEach(adapter -> roamingDevice.addBluetoothDevice(adapter.getDevice(address)));
+        // adding the same device again has no effect, so this can race with addBluetoothAdapter
+        adapters.stream().filter(this::isRoamingMember)
+                .forEach(adapter -> roamingDevice.addBluetoothDevice(adapter.getDevice(address)));
 
-            return roamingDevice;
+        return roamingDevice;
+    }
+
+    /**
+     * @return the number of roaming devices that are connected or connecting through the given adapter
+     */
+    int getConnectionCount(BluetoothAdapter adapter) {
+        int count = 0;
+        for (RoamingBluetoothDevice roamingDevice : devices.values()) {
+            if (roamingDevice.isConnectedThrough(adapter)) {
+                count++;
+            }
         }
+        return count;
     }
 
     @Override
@@ -51,9 +51,12 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     private final Set<BluetoothDiscoveryListener> discoveryListeners = new CopyOnWriteArraySet<>();
 
     // Map of Bluetooth devices known to this bridge.
-    // This contains the devices from the most recent scan
+    // This contains the devices from the most recent scan. All access is lock-free, iterations are weakly consistent.
     private final Map<BluetoothAddress, BD> devices = new ConcurrentHashMap<>();
 
+    // Filters the advertisements of all devices of this bridge
+    private final AdvertisementFilter advertisementFilter;
+
     // Actual discovery status.
     protected volatile boolean activeScanEnabled = false;
 
@@ -68,6 +71,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
      */
     public AbstractBluetoothBridgeHandler(Bridge bridge) {
         super(bridge);
+        advertisementFilter = new AdvertisementFilter(config.advertisementInterval, config.rssiSmoothingWindow);
     }
 
     @Override
@@ -88,6 +92,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     @Override
     public void initialize() {
         config = getConfigAs(BaseBluetoothBridgeHandlerConfiguration.class);
+        advertisementFilter.configure(config.advertisementInterval, config.rssiSmoothingWindow);
 
         int intervalSecs = config.inactiveDeviceCleanupInterval;
         inactiveRemovalJob = scheduler.scheduleWithFixedDelay(this::removeInactiveDevices, intervalSecs, intervalSecs,
@@ -102,10 +107,8 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         }
         this.inactiveRemovalJob = null;
 
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                removeDevice(device);
-            }
+        for (BD device : devices.values()) {
+            removeDevice(device);
         }
     }
 
@@ -115,21 +118,18 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     private void removeInactiveDevices() {
         // clean up orphaned entries
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                if (shouldRemove(device)) {
-                    logger.debug("Removing device '{}' due to inactivity", device.getAddress());
-                    removeDevice(device);
-                }
+        for (BD device : devices.values()) {
+            if (shouldRemove(device)) {
+                logger.debug("Removing device '{}' due to inactivity", device.getAddress());
+                removeDevice(device);
             }
         }
     }
 
     protected void removeDevice(BD device) {
         device.dispose();
-        synchronized (devices) {
-            devices.remove(device.getAddress());
-        }
+        devices.remove(device.getAddress(), device);
+        advertisementFilter.remove(device.getAddress());
         discoveryListeners.forEach(listener -> listener.deviceRemoved(device));
     }
 
@@ -172,9 +172,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     protected void refreshDiscoveredDevices() {
         logger.debug("Refreshing Bluetooth device list...");
-        synchronized (devices) {
-            devices.values().forEach(this::deviceDiscovered);
-        }
+        devices.values().forEach(this::deviceDiscovered);
     }
 
     @Override
@@ -186,9 +184,11 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     @Override
     public BD getDevice(BluetoothAddress address) {
-        synchronized (devices) {
-            return Objects.requireNonNull(devices.computeIfAbsent(address, this::createDevice));
-        }
+        return Objects.requireNonNull(devices.computeIfAbsent(address, addr -> {
+            BD device = createDevice(addr);
+            device.setAdvertisementFilter(advertisementFilter);
+            return device;
+        }));
     }
 
     protected abstract BD createDevice(BluetoothAddress address);
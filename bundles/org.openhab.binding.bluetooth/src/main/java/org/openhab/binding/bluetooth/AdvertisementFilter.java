@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification.BluetoothBeaconType;
+
+/**
+ * The {@link AdvertisementFilter} is the advertisement pipeline of an adapter. It is applied to the scan records of
+ * all devices of the adapter before they are passed on to the device listeners.
+ * <p>
+ * The RSSI of the scan records is replaced by the moving average of the last received values, as the RSSI of single
+ * advertisements is very noisy. Scan records that do not change any of the advertised fields are dropped, unless the
+ * configured interval has passed since the last scan record which has been passed on. Beacons repeat their
+ * advertisement many times per second, so this limits the updates of each device to one per interval, while changes
+ * of the advertised data are still passed on immediately.
+ * <p>
+ * Some adapters, like BlueZ, report each field of an advertisement in a scan record of its own. So the last value of
+ * each field is remembered separately, and a field that is not set in a scan record does not count as a change.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AdvertisementFilter {
+
+    private final Map<BluetoothAddress, DeviceState> states = new ConcurrentHashMap<>();
+    private volatile long intervalNanos;
+    private volatile int rssiWindow;
+
+    /**
+     * The state of a single device, access is synchronized on the instance.
+     */
+    private static class DeviceState {
+        final int[] rssiSamples;
+        int rssiCount = 0;
+        int rssiNext = 0;
+        long lastDispatchNanos;
+        boolean dispatched = false;
+        byte @Nullable [] data;
+        byte @Nullable [] manufacturerData;
+        @Nullable
+        String name;
+        @Nullable
+        BluetoothBeaconType beaconType;
+
+        DeviceState(int rssiWindow) {
+            rssiSamples = new int[Math.max(1, rssiWindow)];
+        }
+
+        int smoothRssi(int rssi) {
+            rssiSamples[rssiNext] = rssi;
+            rssiNext = (rssiNext + 1) % rssiSamples.length;
+            rssiCount = Math.min(rssiCount + 1, rssiSamples.length);
+            int sum = 0;
+            for (int i = 0; i < rssiCount; i++) {
+                sum += rssiSamples[i];
+            }
+            return Math.round((float) sum / rssiCount);
+        }
+
+        boolean isChanged(BluetoothScanNotification notification) {
+            byte[] newData = notification.getData();
+            byte[] newManufacturerData = notification.getManufacturerData();
+            String newName = notification.getDeviceName();
+            BluetoothBeaconType newBeaconType = notification.getBeaconType();
+            return (newData != null && !Arrays.equals(data, newData))
+                    || (newManufacturerData != null && !Arrays.equals(manufacturerData, newManufacturerData))
+                    || (newName != null && !newName.isEmpty() && !newName.equals(name))
+                    || (newBeaconType != BluetoothBeaconType.BEACON_UNKNOWN && newBeaconType != beaconType);
+        }
+
+        void dispatched(BluetoothScanNotification notification, long now) {
+            dispatched = true;
+            lastDispatchNanos = now;
+            byte[] newData = notification.getData();
+            if (newData != null) {
+                data = newData;
+            }
+            byte[] newManufacturerData = notification.getManufacturerData();
+            if (newManufacturerData != null) {
+                manufacturerData = newManufacturerData;
+            }
+            String newName = notification.getDeviceName();
+            if (newName != null && !newName.isEmpty()) {
+                name = newName;
+            }
+            BluetoothBeaconType newBeaconType = notification.getBeaconType();
+            if (newBeaconType != BluetoothBeaconType.BEACON_UNKNOWN) {
+                beaconType = newBeaconType;
+            }
+        }
+    }
+
+    /**
+     * @param intervalInMS The minimum time between two scan records of a device with the same data, 0 passes all
+     * @param rssiWindow The number of RSSI values that are averaged, 1 disables the smoothing
+     */
+    public AdvertisementFilter(int intervalInMS, int rssiWindow) {
+        configure(intervalInMS, rssiWindow);
+    }
+
+    /**
+     * Changes the configuration, the RSSI values received so far are discarded.
+     *
+     * @param intervalInMS The minimum time between two scan records of a device with the same data, 0 passes all
+     * @param rssiWindow The number of RSSI values that are averaged, 1 disables the smoothing
+     */
+    public void configure(int intervalInMS, int rssiWindow) {
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, intervalInMS));
+        this.rssiWindow = Math.max(1, rssiWindow);
+        states.clear();
+    }
+
+    /**
+     * Smooths the RSSI of the scan record and decides whether it is passed on to the listeners of the device.
+     *
+     * @param address The address of the device that sent the scan record
+     * @param notification The scan record, its RSSI is replaced by the smoothed value
+     * @return true if the scan record is passed on to the listeners, false if it is dropped
+     */
+    public boolean accept(BluetoothAddress address, BluetoothScanNotification notification) {
+        DeviceState state = states.computeIfAbsent(address, a -> new DeviceState(rssiWindow));
+        synchronized (state) {
+            int rssi = notification.getRssi();
+            if (rssi != Integer.MIN_VALUE) {
+                notification.setRssi(state.smoothRssi(rssi));
+            }
+            long now = System.nanoTime();
+            boolean withinInterval = state.dispatched && now - state.lastDispatchNanos < intervalNanos;
+            if (withinInterval && !state.isChanged(notification)) {
+                return false;
+            }
+            state.dispatched(notification, now);
+            return true;
+        }
+    }
+
+    /**
+     * Forgets the state of a device, for example because the device has been removed.
+     *
+     * @param address The address of the device
+     */
+    public void remove(BluetoothAddress address) {
+        states.remove(address);
+    }
+}
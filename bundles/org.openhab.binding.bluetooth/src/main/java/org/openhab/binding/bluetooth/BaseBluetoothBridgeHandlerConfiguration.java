@@ -26,4 +26,8 @@ public class BaseBluetoothBridgeHandlerConfiguration {
     public boolean backgroundDiscovery = false;
     public int inactiveDeviceCleanupInterval = 60;
     public int inactiveDeviceCleanupThreshold = 300;
+    // Minimum time in ms between two advertisements with the same data of a device that are passed on
+    public int advertisementInterval = 1000;
+    // Number of RSSI values of a device that are averaged
+    public int rssiSmoothingWindow = 4;
 }
@@ -22,6 +22,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,6 +81,11 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
      */
     private final Set<BluetoothDeviceListener> eventListeners = new CopyOnWriteArraySet<>();
 
+    /**
+     * The advertisement pipeline of the adapter, scan records that it drops are not passed on to the listeners
+     */
+    private @Nullable AdvertisementFilter advertisementFilter;
+
     /**
      * Construct a Bluetooth device taking the Bluetooth address
      *
@@ -108,6 +114,15 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
         lastSeenTime = ZonedDateTime.now();
     }
 
+    /**
+     * Sets the advertisement pipeline of the adapter of this device.
+     *
+     * @param advertisementFilter the {@link AdvertisementFilter} of the adapter
+     */
+    void setAdvertisementFilter(AdvertisementFilter advertisementFilter) {
+        this.advertisementFilter = advertisementFilter;
+    }
+
     /**
      * Returns the name of the Bluetooth device.
      *
@@ -262,6 +277,13 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
     protected void notifyListeners(BluetoothEventType event, Object... args) {
         switch (event) {
             case SCAN_RECORD:
+                // a dropped scan record still shows that the device is active
+                updateLastSeenTime();
+                AdvertisementFilter filter = advertisementFilter;
+                if (filter != null && !filter.accept(address, (BluetoothScanNotification) args[0])) {
+                    return;
+                }
+                break;
             case CHARACTERISTIC_UPDATED:
             case DESCRIPTOR_UPDATED:
             case SERVICES_DISCOVERED:
@@ -15,6 +15,7 @@ package org.openhab.binding.bluetooth;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.locks.ReentrantLock;
 
 import javax.measure.quantity.Power;
@@ -64,6 +65,9 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
 
     private @Nullable ZonedDateTime lastActivityTime;
 
+    // The RSSI that has been sent to the RSSI channel last, to not send the same value over and over again
+    private @Nullable Integer reportedRssi;
+
     public BeaconBluetoothHandler(Thing thing) {
         super(thing);
         deviceLock = new ReentrantLock();
@@ -167,17 +171,24 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
      */
     protected void updateRSSI() {
         if (device != null) {
-            updateRSSI(device.getRssi());
+            updateRSSI(device.getRssi(), true);
         }
     }
 
-    private void updateRSSI(@Nullable Integer rssi) {
-        if (rssi != null && rssi != 0) {
-            QuantityType<Power> quantity = new QuantityType<>(rssi, Units.DECIBEL_MILLIWATTS);
-            updateState(BluetoothBindingConstants.CHANNEL_TYPE_RSSI, quantity);
+    private void updateRSSI(@Nullable Integer rssi, boolean force) {
+        Integer value = rssi != null && rssi != 0 ? rssi : null;
+        boolean changed = force || !Objects.equals(value, reportedRssi);
+        reportedRssi = value;
+        if (value != null) {
+            if (changed) {
+                updateState(BluetoothBindingConstants.CHANNEL_TYPE_RSSI,
+                        new QuantityType<Power>(value, Units.DECIBEL_MILLIWATTS));
+            }
             updateStatusBasedOnRssi(true);
         } else {
-            updateState(BluetoothBindingConstants.CHANNEL_TYPE_RSSI, UnDefType.NULL);
+            if (changed) {
+                updateState(BluetoothBindingConstants.CHANNEL_TYPE_RSSI, UnDefType.NULL);
+            }
             updateStatusBasedOnRssi(false);
         }
     }
@@ -208,9 +219,12 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
      * @param receivedSignal true, if the device is in reach
      */
     protected void updateStatusBasedOnRssi(boolean receivedSignal) {
+        // every status update is an event, even if the status stays the same
         if (receivedSignal) {
-            updateStatus(ThingStatus.ONLINE);
-        } else {
+            if (getThing().getStatus() != ThingStatus.ONLINE) {
+                updateStatus(ThingStatus.ONLINE);
+            }
+        } else if (getThing().getStatusInfo().getStatusDetail() != ThingStatusDetail.COMMUNICATION_ERROR) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR);
         }
     }
@@ -224,7 +238,7 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         onActivity();
         int rssi = scanNotification.getRssi();
         if (rssi != Integer.MIN_VALUE) {
-            updateRSSI(rssi);
+            updateRSSI(rssi, false);
         }
     }
 
@@ -24,7 +24,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -51,12 +50,13 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The {@link BluetoothDiscoveryProcess} does the work of creating a DiscoveryResult from a set of
- * {@link BluetoothDisocveryParticipant}s
+ * {@link BluetoothDisocveryParticipant}s. The participants that require a connection are only asked if none of the
+ * others recognized the device, as a separate step which is scheduled by the {@link ConnectionDiscoveryScheduler}.
  *
  * @author Connor Petty - Initial Contribution
  */
 @NonNullByDefault
-public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult>, BluetoothDeviceListener {
+public class BluetoothDiscoveryProcess implements BluetoothDeviceListener {
 
     private static final int DISCOVERY_TTL = 300;
 
@@ -71,7 +71,11 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult>, Blu
     private final Collection<BluetoothDiscoveryParticipant> participants;
     private final Set<BluetoothAdapter> adapters;
 
+    private final List<BluetoothDiscoveryParticipant> connectionParticipants = new ArrayList<>();
+
     private volatile boolean servicesDiscovered = false;
+    private volatile boolean connectionAttempted = false;
+    private volatile long connectionTimeNanos = -1;
 
     /**
      * Contains characteristic which reading is ongoing or null if no ongoing readings.
@@ -85,13 +89,16 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult>, Blu
         this.adapters = adapters;
     }
 
-    @Override
-    public DiscoveryResult get() {
+    /**
+     * Asks the participants that don't require a connection to recognize the device.
+     *
+     * @return the result of the first participant that recognized the device, or null if none did
+     */
+    public @Nullable DiscoveryResult findResultWithoutConnection() {
         List<BluetoothDiscoveryParticipant> sortedParticipants = new ArrayList<>(participants);
         sortedParticipants.sort(Comparator.comparing(BluetoothDiscoveryParticipant::order));
 
-        // first see if any of the participants that don't require a connection recognize this device
-        List<BluetoothDiscoveryParticipant> connectionParticipants = new ArrayList<>();
+        connectionParticipants.clear();
         for (BluetoothDiscoveryParticipant participant : sortedParticipants) {
             if (participant.requiresConnection(device)) {
                 connectionParticipants.add(participant);
@@ -106,8 +113,24 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult>, Blu
                 logger.warn("Participant '{}' threw an exception", participant.getClass().getName(), e);
             }
         }
+        return null;
+    }
 
-        // Since we couldn't find a result, lets try the connection based participants
+    /**
+     * @return true if {@link #findResultWithoutConnection()} found participants that require a connection to the
+     *         device
+     */
+    public boolean requiresConnection() {
+        return !connectionParticipants.isEmpty();
+    }
+
+    /**
+     * Connects to the device and asks the participants that require a connection to recognize it. Nothing is done if
+     * a handler for the device exists on any of the adapters.
+     *
+     * @return the result of the first participant that recognized the device, or null if none did
+     */
+    public @Nullable DiscoveryResult findResultWithConnection() {
         DiscoveryResult result = null;
         BluetoothAddress address = device.getAddress();
         if (isAddressAvailable(address)) {
@@ -124,18 +147,34 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult>, Blu
                 }
             }
         }
-        if (result == null) {
-            result = createDefaultResult();
-        }
         return result;
     }
 
+    public BluetoothDeviceSnapshot getDevice() {
+        return device;
+    }
+
+    /**
+     * @return true if {@link #findResultWithConnection()} tried to connect to the device
+     */
+    public boolean isConnectionAttempted() {
+        return connectionAttempted;
+    }
+
+    /**
+     * @return the time it took the adapter to connect to the device in nanoseconds, or -1 if no connection has been
+     *         established
+     */
+    public long getConnectionTimeNanos() {
+        return connectionTimeNanos;
+    }
+
     private boolean isAddressAvailable(BluetoothAddress address) {
         // if a device with this address has a handler on any of the adapters, we abandon discovery
         return adapters.stream().noneMatch(adapter -> adapter.hasHandlerForDevice(address));
     }
 
-    private DiscoveryResult createDefaultResult() {
+    public DiscoveryResult createDefaultResult() {
         // We did not find a thing type for this device, so let's treat it as a generic beacon
         String label = device.getName();
         if (label == null || label.length() == 0 || label.equals(device.getAddress().toString().replace(':', '-'))) {
@@ -173,6 +212,8 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult>, Blu
 
     private void ensureConnected() throws ConnectionException, InterruptedException {
         if (device.getConnectionState() != ConnectionState.CONNECTED) {
+            long connectStart = System.nanoTime();
+            connectionAttempted = true;
             if (device.getConnectionState() != ConnectionState.CONNECTING && !device.connect()) {
                 logger.debug("Connection attempt failed to start for device {}", device.getAddress());
                 // something failed, so we abandon connection discovery
@@ -182,6 +223,9 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult>, Blu
                 logger.debug("Connection to device {} timed out", device.getAddress());
                 throw new ConnectionException();
             }
+            if (connectionTimeNanos < 0) {
+                connectionTimeNanos = System.nanoTime() - connectStart;
+            }
             if (!servicesDiscovered) {
                 device.discoverServices();
                 if (!awaitServiceDiscovery(10, TimeUnit.SECONDS)) {
@@ -68,6 +68,8 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
 
     private final Set<ThingTypeUID> supportedThingTypes = new CopyOnWriteArraySet<>();
 
+    private final ConnectionDiscoveryScheduler connectionScheduler = new ConnectionDiscoveryScheduler(scheduler);
+
     public BluetoothDiscoveryService() {
         super(SEARCH_TIME);
         supportedThingTypes.add(BluetoothBindingConstants.THING_TYPE_BEACON);
@@ -107,6 +109,8 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
     protected void addBluetoothDiscoveryParticipant(BluetoothDiscoveryParticipant participant) {
         this.participants.add(participant);
         supportedThingTypes.addAll(participant.getSupportedThingTypeUIDs());
+        // the new participant might recognize the devices that the others didn't
+        connectionScheduler.clearUnrecognized();
     }
 
     protected void removeBluetoothDiscoveryParticipant(BluetoothDiscoveryParticipant participant) {
@@ -301,8 +305,10 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
         }
 
         private CompletableFuture<DiscoveryResult> startDiscoveryProcess(BluetoothDeviceSnapshot device) {
-            return CompletableFuture.supplyAsync(new BluetoothDiscoveryProcess(device, participants, adapters),
-                    scheduler);
+            BluetoothDiscoveryProcess process = new BluetoothDiscoveryProcess(device, participants, adapters);
+            return CompletableFuture.supplyAsync(process::findResultWithoutConnection, scheduler)
+                    .thenCompose(result -> result != null ? CompletableFuture.completedFuture(result)
+                            : connectionScheduler.schedule(process));
         }
     }
 
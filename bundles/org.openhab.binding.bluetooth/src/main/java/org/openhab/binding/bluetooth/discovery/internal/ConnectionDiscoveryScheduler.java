@@ -0,0 +1,274 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.discovery.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.BluetoothAddress;
+import org.openhab.core.config.discovery.DiscoveryResult;
+import org.openhab.core.thing.ThingUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ConnectionDiscoveryScheduler} runs the connection based part of the {@link BluetoothDiscoveryProcess}es.
+ * <p>
+ * Connecting to a device occupies the adapter for up to 20 seconds, during which the connections of the things are
+ * delayed or dropped. So only a few connection discoveries run at the same time across all adapters, the others wait
+ * in a bounded queue. Devices that never had a connection discovery and devices with a strong signal go first. If the
+ * queue is full the least important device gets the default result without a connection.
+ * <p>
+ * Devices that no participant recognized after connecting, or that could not be connected to, are remembered for a
+ * while and get the default result right away when they are discovered again.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ConnectionDiscoveryScheduler {
+
+    static final int MAX_CONCURRENT_CONNECTIONS = 2;
+    static final int MAX_QUEUED_CONNECTIONS = 64;
+
+    private static final long UNRECOGNIZED_TTL = TimeUnit.MINUTES.toNanos(30);
+    private static final int MAX_REMEMBERED_DEVICES = 1024;
+
+    // devices that never had a connection discovery first, then the strongest signal, then first come first served
+    private static final Comparator<Task> PRIORITY = Comparator.<Task> comparingInt(t -> t.seenBefore ? 1 : 0)
+            .thenComparing(Comparator.<Task> comparingInt(t -> t.rssi).reversed()).thenComparingLong(t -> t.order);
+
+    private final Logger logger = LoggerFactory.getLogger(ConnectionDiscoveryScheduler.class);
+
+    private final Executor executor;
+    private final int maxConcurrentConnections;
+
+    private final PriorityQueue<Task> queue = new PriorityQueue<>();
+    private int running = 0;
+    private long sequence = 0;
+
+    /**
+     * The devices no participant recognized, with the time the entry expires.
+     */
+    private final Map<BluetoothAddress, Long> unrecognized = new LruMap<>();
+    /**
+     * The devices that had a connection discovery before.
+     */
+    private final Map<BluetoothAddress, Boolean> attempted = new LruMap<>();
+    private final Map<ThingUID, ConnectionStatistics> statistics = new HashMap<>();
+
+    private static class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        LruMap() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<K, V> eldest) {
+            return size() > MAX_REMEMBERED_DEVICES;
+        }
+    }
+
+    private class Task implements Comparable<Task>, Runnable {
+        private final BluetoothDiscoveryProcess process;
+        private final CompletableFuture<DiscoveryResult> future = new CompletableFuture<>();
+        private final boolean seenBefore;
+        private final int rssi;
+        private final long order = sequence++;
+
+        Task(BluetoothDiscoveryProcess process, boolean seenBefore) {
+            Integer rssi = process.getDevice().getRssi();
+            this.process = process;
+            this.seenBefore = seenBefore;
+            this.rssi = rssi != null ? rssi : Integer.MIN_VALUE;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            return PRIORITY.compare(this, other);
+        }
+
+        @Override
+        public void run() {
+            @Nullable
+            DiscoveryResult result = null;
+            try {
+                result = process.findResultWithConnection();
+                finished(process, result);
+            } catch (RuntimeException e) {
+                logger.warn("Error occurred during connection discovery of {}", process.getDevice().getAddress(), e);
+            } finally {
+                next();
+                future.complete(result != null ? result : process.createDefaultResult());
+            }
+        }
+    }
+
+    /**
+     * The connection times of an adapter.
+     */
+    private static class ConnectionStatistics {
+        int attempts = 0;
+        int connections = 0;
+        long totalNanos = 0;
+        long maxNanos = 0;
+
+        void add(long connectionTimeNanos) {
+            attempts++;
+            if (connectionTimeNanos >= 0) {
+                connections++;
+                totalNanos += connectionTimeNanos;
+                maxNanos = Math.max(maxNanos, connectionTimeNanos);
+            }
+        }
+
+        @Override
+        public String toString() {
+            long average = connections > 0 ? totalNanos / connections : 0;
+            return String.format("%d of %d connections succeeded, average %d ms, max %d ms", connections, attempts,
+                    TimeUnit.NANOSECONDS.toMillis(average), TimeUnit.NANOSECONDS.toMillis(maxNanos));
+        }
+    }
+
+    /**
+     * @param executor Runs the connection discoveries, each of them blocks a thread while connected
+     */
+    public ConnectionDiscoveryScheduler(Executor executor) {
+        this(executor, MAX_CONCURRENT_CONNECTIONS);
+    }
+
+    ConnectionDiscoveryScheduler(Executor executor, int maxConcurrentConnections) {
+        this.executor = executor;
+        this.maxConcurrentConnections = maxConcurrentConnections;
+    }
+
+    /**
+     * Schedules the connection based part of a discovery. {@link BluetoothDiscoveryProcess#findResultWithoutConnection}
+     * must have been called before.
+     *
+     * @param process The discovery process of the device
+     * @return the result of the connection based participants, or the default result if none recognized the device
+     */
+    public CompletableFuture<DiscoveryResult> schedule(BluetoothDiscoveryProcess process) {
+        if (!process.requiresConnection()) {
+            return CompletableFuture.completedFuture(process.createDefaultResult());
+        }
+        BluetoothAddress address = process.getDevice().getAddress();
+        List<Task> dropped = new ArrayList<>();
+        @Nullable
+        Task task;
+        synchronized (this) {
+            if (isUnrecognized(address)) {
+                logger.trace("Skipping connection discovery of unrecognized device {}", address);
+                task = null;
+            } else {
+                task = new Task(process, attempted.put(address, Boolean.TRUE) != null);
+                queue.add(task);
+                if (queue.size() > MAX_QUEUED_CONNECTIONS) {
+                    Task last = queue.stream().max(PRIORITY).get();
+                    queue.remove(last);
+                    logger.debug("Too many pending connection discoveries, skipping device {}",
+                            last.process.getDevice().getAddress());
+                    dropped.add(last);
+                }
+                startNext(dropped);
+            }
+        }
+        completeWithDefault(dropped);
+        return task != null ? task.future : CompletableFuture.completedFuture(process.createDefaultResult());
+    }
+
+    /**
+     * Forgets the devices which no participant recognized, for example because a new participant is available.
+     */
+    public synchronized void clearUnrecognized() {
+        unrecognized.clear();
+    }
+
+    private boolean isUnrecognized(BluetoothAddress address) {
+        Long expires = unrecognized.get(address);
+        if (expires == null) {
+            return false;
+        }
+        if (expires - System.nanoTime() <= 0) {
+            unrecognized.remove(address);
+            return false;
+        }
+        return true;
+    }
+
+    private synchronized void finished(BluetoothDiscoveryProcess process, @Nullable DiscoveryResult result) {
+        if (!process.isConnectionAttempted()) {
+            return;
+        }
+        BluetoothDeviceSnapshot device = process.getDevice();
+        if (result == null) {
+            unrecognized.put(device.getAddress(), System.nanoTime() + UNRECOGNIZED_TTL);
+        }
+        ThingUID adapterUID = device.getAdapter().getUID();
+        ConnectionStatistics stats = statistics.computeIfAbsent(adapterUID, uid -> new ConnectionStatistics());
+        stats.add(process.getConnectionTimeNanos());
+        logger.debug("Connection discovery of {} on {}: {}; {}", device.getAddress(), adapterUID,
+                result != null ? "recognized" : "not recognized", stats);
+    }
+
+    private void next() {
+        List<Task> rejected = new ArrayList<>();
+        synchronized (this) {
+            running--;
+            startNext(rejected);
+        }
+        completeWithDefault(rejected);
+    }
+
+    /**
+     * Starts queued tasks until the maximum number of connections is reached, must be called with the lock held.
+     *
+     * @param rejected Receives the tasks which the executor rejected
+     */
+    private void startNext(List<Task> rejected) {
+        Task task;
+        while (running < maxConcurrentConnections && (task = queue.poll()) != null) {
+            running++;
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                running--;
+                logger.debug("Connection discovery of {} rejected: {}", task.process.getDevice().getAddress(),
+                        e.getMessage());
+                rejected.add(task);
+            }
+        }
+    }
+
+    /**
+     * Completes tasks without a connection. The dependent stages of the futures run in the calling thread, so this
+     * must not be called with the lock held.
+     */
+    private void completeWithDefault(List<Task> tasks) {
+        for (Task task : tasks) {
+            task.future.complete(task.process.createDefaultResult());
+        }
+    }
+}
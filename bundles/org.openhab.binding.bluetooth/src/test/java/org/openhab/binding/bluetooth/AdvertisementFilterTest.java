@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * Tests {@link AdvertisementFilter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AdvertisementFilterTest {
+
+    private static BluetoothScanNotification advertisement(int rssi, byte... manufacturerData) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        notification.setManufacturerData(manufacturerData);
+        return notification;
+    }
+
+    @Test
+    public void testDuplicatesAreDropped() {
+        AdvertisementFilter filter = new AdvertisementFilter(60000, 1);
+        BluetoothAddress address = TestUtils.randomAddress();
+
+        assertTrue(filter.accept(address, advertisement(-60, (byte) 1)));
+        assertFalse(filter.accept(address, advertisement(-62, (byte) 1)));
+        // changed data is passed on immediately
+        assertTrue(filter.accept(address, advertisement(-62, (byte) 2)));
+        // other devices are not affected
+        assertTrue(filter.accept(TestUtils.randomAddress(), advertisement(-60, (byte) 2)));
+    }
+
+    private static BluetoothScanNotification name(String name) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setDeviceName(name);
+        return notification;
+    }
+
+    @Test
+    public void testSeparateFieldNotifications() {
+        AdvertisementFilter filter = new AdvertisementFilter(60000, 1);
+        BluetoothAddress address = TestUtils.randomAddress();
+
+        assertTrue(filter.accept(address, advertisement(-60)));
+        assertTrue(filter.accept(address, name("sensor")));
+        assertTrue(filter.accept(address, advertisement(Integer.MIN_VALUE, (byte) 1)));
+
+        // fields that are not set do not count as changes of the fields that have been seen before
+        assertFalse(filter.accept(address, advertisement(-62)));
+        assertFalse(filter.accept(address, name("sensor")));
+        assertFalse(filter.accept(address, advertisement(Integer.MIN_VALUE, (byte) 1)));
+        assertFalse(filter.accept(address, advertisement(-61)));
+
+        // a changed field is passed on immediately
+        assertTrue(filter.accept(address, advertisement(Integer.MIN_VALUE, (byte) 2)));
+        assertTrue(filter.accept(address, name("sensor 2")));
+        assertFalse(filter.accept(address, advertisement(-60)));
+    }
+
+    @Test
+    public void testZeroIntervalPassesAll() {
+        AdvertisementFilter filter = new AdvertisementFilter(0, 1);
+        BluetoothAddress address = TestUtils.randomAddress();
+
+        assertTrue(filter.accept(address, advertisement(-60, (byte) 1)));
+        assertTrue(filter.accept(address, advertisement(-60, (byte) 1)));
+    }
+
+    @Test
+    public void testRssiIsSmoothed() {
+        AdvertisementFilter filter = new AdvertisementFilter(0, 4);
+        BluetoothAddress address = TestUtils.randomAddress();
+
+        BluetoothScanNotification notification = advertisement(-60);
+        filter.accept(address, notification);
+        assertEquals(-60, notification.getRssi());
+
+        notification = advertisement(-70);
+        filter.accept(address, notification);
+        assertEquals(-65, notification.getRssi());
+
+        for (int i = 0; i < 4; i++) {
+            notification = advertisement(-80);
+            filter.accept(address, notification);
+        }
+        // the old values have left the window
+        assertEquals(-80, notification.getRssi());
+    }
+
+    @Test
+    public void testRemovedDeviceStartsOver() {
+        AdvertisementFilter filter = new AdvertisementFilter(60000, 1);
+        BluetoothAddress address = TestUtils.randomAddress();
+
+        assertTrue(filter.accept(address, advertisement(-60, (byte) 1)));
+        filter.remove(address);
+        assertTrue(filter.accept(address, advertisement(-60, (byte) 1)));
+    }
+}
@@ -353,6 +353,66 @@ public class BluetoothDiscoveryServiceTest {
                         .argThat(arg -> arg.getThingTypeUID().equals(BluetoothBindingConstants.THING_TYPE_BEACON)));
     }
 
+    @Test
+    public void unrecognizedDeviceConnectsOnceTest() {
+        Mockito.doReturn(true).when(participant1).requiresConnection(ArgumentMatchers.any());
+        Mockito.doReturn(null).when(participant1).createResult(ArgumentMatchers.any());
+
+        MockBluetoothAdapter mockAdapter1 = new MockBluetoothAdapter();
+        MockBluetoothDevice device = Mockito.spy(mockAdapter1.getDevice(TestUtils.randomAddress()));
+        discoveryService.deviceDiscovered(device);
+
+        Mockito.verify(mockDiscoveryListener, Mockito.timeout(TIMEOUT).times(1))
+                .thingDiscovered(ArgumentMatchers.same(discoveryService), ArgumentMatchers
+                        .argThat(arg -> arg.getThingTypeUID().equals(BluetoothBindingConstants.THING_TYPE_BEACON)));
+
+        // the changed device is discovered again, but no participant recognized it the last time
+        device.setManufacturerId(10);
+        discoveryService.deviceDiscovered(device);
+
+        Mockito.verify(mockDiscoveryListener, Mockito.timeout(TIMEOUT).times(2))
+                .thingDiscovered(ArgumentMatchers.same(discoveryService), ArgumentMatchers
+                        .argThat(arg -> arg.getThingTypeUID().equals(BluetoothBindingConstants.THING_TYPE_BEACON)));
+        Mockito.verify(device, Mockito.times(1)).connect();
+    }
+
+    @Test
+    public void connectionDiscoveryLimitTest() {
+        Mockito.doReturn(null).when(participant1).createResult(ArgumentMatchers.any());
+
+        AtomicInteger connections = new AtomicInteger(0);
+        AtomicInteger maxConnections = new AtomicInteger(0);
+        MockDiscoveryParticipant participant2 = new MockDiscoveryParticipant() {
+            @Override
+            public boolean requiresConnection(BluetoothDiscoveryDevice device) {
+                return true;
+            }
+
+            @Override
+            public @Nullable DiscoveryResult createResult(BluetoothDiscoveryDevice device) {
+                maxConnections.accumulateAndGet(connections.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    // do nothing
+                }
+                connections.decrementAndGet();
+                return super.createResult(device);
+            }
+        };
+        discoveryService.addBluetoothDiscoveryParticipant(participant2);
+
+        MockBluetoothAdapter mockAdapter1 = new MockBluetoothAdapter();
+        for (int i = 0; i < 6; i++) {
+            discoveryService.deviceDiscovered(mockAdapter1.getDevice(TestUtils.randomAddress()));
+        }
+
+        Mockito.verify(mockDiscoveryListener, Mockito.timeout(TIMEOUT).times(6)).thingDiscovered(
+                ArgumentMatchers.same(discoveryService),
+                ArgumentMatchers.argThat(arg -> arg.getThingTypeUID().equals(participant2.typeUID)));
+        assertTrue(maxConnections.get() <= ConnectionDiscoveryScheduler.MAX_CONCURRENT_CONNECTIONS);
+    }
+
     @Test
     public void replaceOlderDiscoveryTest() {
         Mockito.doReturn(null).when(participant1).createResult(ArgumentMatchers.any());
@@ -47,6 +47,7 @@ public class CameraConfig {
     private String mjpegOptions = "";
     private String snapshotOptions = "";
     private String motionOptions = "";
+    private boolean snapshotMotion;
     private boolean ptzContinuous;
     private int gifPreroll;
 
@@ -98,6 +99,10 @@ public class CameraConfig {
         return ptzContinuous;
     }
 
+    public boolean getSnapshotMotion() {
+        return snapshotMotion;
+    }
+
     public String getAlarmInputUrl() {
         return alarmInputUrl;
     }
@@ -73,6 +73,10 @@ public class IpCameraBindingConstants {
     public static final String CONFIG_IPADDRESS = "ipAddress";
     public static final String CONFIG_ONVIF_PORT = "onvifPort";
 
+    // Binding config items
+    public static final String CONFIG_CLIENT_THREADS = "clientThreads";
+    public static final String CONFIG_SERVER_THREADS = "serverThreads";
+
     // List of all Channel ids
     public static final String CHANNEL_POLL_IMAGE = "pollImage";
     public static final String CHANNEL_RECORDING_GIF = "recordingGif";
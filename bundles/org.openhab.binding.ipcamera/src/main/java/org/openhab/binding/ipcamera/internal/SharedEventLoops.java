@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * The {@link SharedEventLoops} holds the Netty event loops that are shared by all cameras and groups of the binding,
+ * instead of each camera starting its own set of 2 threads per core.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SharedEventLoops {
+    private final EventLoopGroup clientGroup;
+    private final EventLoopGroup serverGroup;
+    private final int clientThreads;
+    private final int serverThreads;
+
+    /**
+     * @param clientThreads threads used for the connections to the cameras, 0 uses one per core.
+     * @param serverThreads threads used for the stream servers, 0 uses one per core.
+     */
+    public SharedEventLoops(int clientThreads, int serverThreads) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        this.clientThreads = clientThreads > 0 ? clientThreads : cores;
+        this.serverThreads = serverThreads > 0 ? serverThreads : cores;
+        clientGroup = new NioEventLoopGroup(this.clientThreads, new DefaultThreadFactory("ipcamera-client", true));
+        serverGroup = new NioEventLoopGroup(this.serverThreads, new DefaultThreadFactory("ipcamera-server", true));
+    }
+
+    /**
+     * The event loops used to connect to cameras, including the ONVIF and RTSP connections.
+     */
+    public EventLoopGroup getClientGroup() {
+        return clientGroup;
+    }
+
+    /**
+     * The event loops used by the stream servers of the cameras and groups, and the connections they accept.
+     */
+    public EventLoopGroup getServerGroup() {
+        return serverGroup;
+    }
+
+    public int getClientThreads() {
+        return clientThreads;
+    }
+
+    public int getServerThreads() {
+        return serverThreads;
+    }
+
+    public void shutdown() {
+        clientGroup.shutdownGracefully(0, 8, TimeUnit.SECONDS);
+        serverGroup.shutdownGracefully(0, 8, TimeUnit.SECONDS);
+    }
+}
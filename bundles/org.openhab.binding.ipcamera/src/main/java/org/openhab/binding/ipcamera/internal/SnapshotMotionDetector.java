@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SnapshotMotionDetector} detects motion by comparing the brightness of consecutive snapshots, so that
+ * cameras without their own motion alarms do not need an FFmpeg process decoding the RTSP stream.
+ * <p>
+ * Each snapshot is decoded with subsampling into a small grid of average luma values. The score is the mean absolute
+ * difference of the grid to the previous snapshot, scaled to 0..1 like the scene score of FFmpeg, so the same
+ * threshold can be used.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SnapshotMotionDetector {
+    private static final int GRID_WIDTH = 32;
+    private static final int GRID_HEIGHT = 24;
+    // Decoded pixels per grid cell in each direction, more only costs time without improving the averages.
+    private static final int SAMPLES_PER_CELL = 4;
+    // Snapshots in a row that need to exceed the threshold before motion is reported, filters single noisy frames.
+    private static final int MOTION_FRAMES = 2;
+    // Snapshots in a row below the threshold before the motion is reported to have stopped.
+    private static final int NO_MOTION_FRAMES = 4;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final int[] previousGrid = new int[GRID_WIDTH * GRID_HEIGHT];
+    private final int[] currentGrid = new int[GRID_WIDTH * GRID_HEIGHT];
+    private final int[] cellSamples = new int[GRID_WIDTH * GRID_HEIGHT];
+    private boolean hasPreviousGrid = false;
+    private boolean motion = false;
+    private int framesOverThreshold = 0;
+    private int framesUnderThreshold = 0;
+
+    /**
+     * Compares the snapshot with the previous one.
+     *
+     * @param jpeg the snapshot.
+     * @param threshold the score that counts as motion, in the range of the FFmpeg scene score.
+     * @return true when motion has started or stopped with this snapshot, {@link #isMotion()} tells which one.
+     */
+    public synchronized boolean processSnapshot(byte[] jpeg, double threshold) {
+        if (!decodeGrid(jpeg)) {
+            return false;
+        }
+        if (!hasPreviousGrid) {
+            System.arraycopy(currentGrid, 0, previousGrid, 0, currentGrid.length);
+            hasPreviousGrid = true;
+            return false;
+        }
+        long difference = 0;
+        for (int i = 0; i < currentGrid.length; i++) {
+            difference += Math.abs(currentGrid[i] - previousGrid[i]);
+        }
+        System.arraycopy(currentGrid, 0, previousGrid, 0, currentGrid.length);
+        double score = difference / (255.0 * currentGrid.length);
+        logger.trace("Snapshot motion score is {}, threshold is {}", score, threshold);
+
+        if (score >= threshold) {
+            framesUnderThreshold = 0;
+            if (!motion && ++framesOverThreshold >= MOTION_FRAMES) {
+                motion = true;
+                return true;
+            }
+        } else {
+            framesOverThreshold = 0;
+            if (motion && ++framesUnderThreshold >= NO_MOTION_FRAMES) {
+                motion = false;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized boolean isMotion() {
+        return motion;
+    }
+
+    /**
+     * Forgets the previous snapshot and any motion, used when the detection is switched off.
+     */
+    public synchronized void reset() {
+        hasPreviousGrid = false;
+        motion = false;
+        framesOverThreshold = 0;
+        framesUnderThreshold = 0;
+    }
+
+    private boolean decodeGrid(byte[] jpeg) {
+        BufferedImage image = decode(jpeg);
+        if (image == null) {
+            return false;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Arrays.fill(currentGrid, 0);
+        Arrays.fill(cellSamples, 0);
+        for (int y = 0; y < height; y++) {
+            int row = Math.min(GRID_HEIGHT - 1, y * GRID_HEIGHT / height) * GRID_WIDTH;
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                // integer approximation of the BT.601 luma
+                int luma = (77 * ((rgb >> 16) & 0xff) + 150 * ((rgb >> 8) & 0xff) + 29 * (rgb & 0xff)) >> 8;
+                int cell = row + Math.min(GRID_WIDTH - 1, x * GRID_WIDTH / width);
+                currentGrid[cell] += luma;
+                cellSamples[cell]++;
+            }
+        }
+        for (int i = 0; i < currentGrid.length; i++) {
+            if (cellSamples[i] > 0) {
+                currentGrid[i] /= cellSamples[i];
+            }
+        }
+        return true;
+    }
+
+    private @Nullable BufferedImage decode(byte[] jpeg) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(jpeg))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                logger.debug("Snapshot can not be decoded for motion detection.");
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int stepX = Math.max(1, reader.getWidth(0) / (GRID_WIDTH * SAMPLES_PER_CELL));
+                int stepY = Math.max(1, reader.getHeight(0) / (GRID_HEIGHT * SAMPLES_PER_CELL));
+                param.setSourceSubsampling(stepX, stepY, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Snapshot can not be decoded for motion detection: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link SnapshotRingBuffer} keeps the last snapshots of a camera in a fixed size ring, so the snapshots from
+ * before an event can be used to create a GIF. Adding a snapshot overwrites the oldest one once the ring is full.
+ * <p>
+ * Snapshots are never modified after they have been received, so only the references are stored.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SnapshotRingBuffer {
+    private static final byte[] EMPTY = new byte[0];
+
+    private byte[][] snapshots = new byte[0][];
+    private int next = 0;
+    private int size = 0;
+
+    /**
+     * Changes how many snapshots are kept, the newest snapshots are kept when the ring gets smaller.
+     */
+    public synchronized void setCapacity(int capacity) {
+        if (capacity == snapshots.length) {
+            return;
+        }
+        List<byte[]> kept = getSnapshots();
+        snapshots = new byte[Math.max(0, capacity)][];
+        next = 0;
+        size = 0;
+        for (byte[] snapshot : kept.subList(Math.max(0, kept.size() - snapshots.length), kept.size())) {
+            add(snapshot);
+        }
+    }
+
+    public synchronized void add(byte[] snapshot) {
+        if (snapshots.length == 0) {
+            return;
+        }
+        snapshots[next] = snapshot;
+        next = (next + 1) % snapshots.length;
+        size = Math.min(size + 1, snapshots.length);
+    }
+
+    /**
+     * Returns the stored snapshots, oldest first.
+     */
+    public synchronized List<byte[]> getSnapshots() {
+        List<byte[]> result = new ArrayList<>(size);
+        int first = next - size + (next < size ? snapshots.length : 0);
+        for (int i = 0; i < size; i++) {
+            byte[] snapshot = snapshots[(first + i) % snapshots.length];
+            result.add(snapshot != null ? snapshot : EMPTY);
+        }
+        return result;
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < snapshots.length; i++) {
+            snapshots[i] = null;
+        }
+        next = 0;
+        size = 0;
+    }
+}
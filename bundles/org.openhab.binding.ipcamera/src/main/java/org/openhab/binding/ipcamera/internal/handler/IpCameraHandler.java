@@ -27,7 +27,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,6 +35,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -56,6 +56,9 @@ import org.openhab.binding.ipcamera.internal.IpCameraActions;
 import org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.FFmpegFormat;
 import org.openhab.binding.ipcamera.internal.IpCameraDynamicStateDescriptionProvider;
 import org.openhab.binding.ipcamera.internal.MyNettyAuthHandler;
+import org.openhab.binding.ipcamera.internal.SharedEventLoops;
+import org.openhab.binding.ipcamera.internal.SnapshotMotionDetector;
+import org.openhab.binding.ipcamera.internal.SnapshotRingBuffer;
 import org.openhab.binding.ipcamera.internal.StreamServerHandler;
 import org.openhab.binding.ipcamera.internal.onvif.OnvifConnection;
 import org.openhab.core.library.types.DecimalType;
@@ -79,6 +82,7 @@ import org.slf4j.LoggerFactory;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
@@ -88,9 +92,9 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -126,6 +130,16 @@ import io.netty.util.concurrent.GlobalEventExecutor;
 
 @NonNullByDefault
 public class IpCameraHandler extends BaseThingHandler {
+    // constant parts of each MJPEG frame, the length of the JPEG follows the header.
+    private static final ByteBuf MJPEG_PART_HEADER = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(
+            "--thisMjpegStream\r\ncontent-type: image/jpeg\r\ncontent-length: ".getBytes(StandardCharsets.US_ASCII)));
+    private static final ByteBuf MJPEG_PART_FOOTER = Unpooled
+            .unreleasableBuffer(Unpooled.wrappedBuffer("\r\n".getBytes(StandardCharsets.US_ASCII)));
+    // An MJPEG viewer is skipped while its channel is not writable. The high water mark is above the size of any camera
+    // JPEG, so that a single large frame does not make the channel unwritable and cause the next frame to be skipped.
+    private static final WriteBufferWaterMark STREAM_WRITE_BUFFER_WATER_MARK = new WriteBufferWaterMark(1024 * 1024,
+            4 * 1024 * 1024);
+
     public final Logger logger = LoggerFactory.getLogger(getClass());
     public final IpCameraDynamicStateDescriptionProvider stateDescriptionProvider;
     private ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(4);
@@ -137,6 +151,9 @@ public class IpCameraHandler extends BaseThingHandler {
     private final ChannelGroup snapshotMjpegChannelGroup = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
     private final ChannelGroup autoSnapshotMjpegChannelGroup = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
     public final ChannelGroup openChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    // the server channel and all connections it accepted, closed when the stream server stops
+    private final ChannelGroup serverChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    private final AtomicLong droppedMjpegFrames = new AtomicLong();
     public @Nullable Ffmpeg ffmpegHLS = null;
     public @Nullable Ffmpeg ffmpegRecord = null;
     public @Nullable Ffmpeg ffmpegGIF = null;
@@ -152,8 +169,7 @@ public class IpCameraHandler extends BaseThingHandler {
     private @Nullable Bootstrap mainBootstrap;
     private @Nullable ServerBootstrap serverBootstrap;
 
-    private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup();
-    private EventLoopGroup serversLoopGroup = new NioEventLoopGroup();
+    private final SharedEventLoops eventLoops;
     private FullHttpRequest putRequestWithBody = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, new HttpMethod("PUT"),
             "");
     private String gifFilename = "ipcamera";
@@ -164,7 +180,8 @@ public class IpCameraHandler extends BaseThingHandler {
     private String mp4Filename = "ipcamera";
     private int mp4RecordTime;
     private int gifRecordTime = 5;
-    private LinkedList<byte[]> fifoSnapshotBuffer = new LinkedList<byte[]>();
+    private final SnapshotRingBuffer preEventSnapshots = new SnapshotRingBuffer();
+    private final SnapshotMotionDetector snapshotMotionDetector = new SnapshotMotionDetector();
     private int snapCount;
     private boolean updateImageChannel = false;
     private boolean updateAutoFps = false;
@@ -396,9 +413,10 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     public IpCameraHandler(Thing thing, @Nullable String ipAddress, GroupTracker groupTracker,
-            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider) {
+            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider, SharedEventLoops eventLoops) {
         super(thing);
         this.stateDescriptionProvider = stateDescriptionProvider;
+        this.eventLoops = eventLoops;
         if (ipAddress != null) {
             hostIp = ipAddress;
         } else {
@@ -411,6 +429,10 @@ public class IpCameraHandler extends BaseThingHandler {
         return this;
     }
 
+    public EventLoopGroup getClientEventLoopGroup() {
+        return eventLoops.getClientGroup();
+    }
+
     // false clears the stored user/pass hash, true creates the hash
     public boolean setBasicAuth(boolean useBasic) {
         if (!useBasic) {
@@ -504,7 +526,7 @@ public class IpCameraHandler extends BaseThingHandler {
 
         if (mainBootstrap == null) {
             mainBootstrap = new Bootstrap();
-            mainBootstrap.group(mainEventLoopGroup);
+            mainBootstrap.group(eventLoops.getClientGroup());
             mainBootstrap.channel(NioSocketChannel.class);
             mainBootstrap.option(ChannelOption.SO_KEEPALIVE, true);
             mainBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 4500);
@@ -623,15 +645,18 @@ public class IpCameraHandler extends BaseThingHandler {
         try {
             currentSnapshot = incommingSnapshot;
             if (cameraConfig.getGifPreroll() > 0) {
-                fifoSnapshotBuffer.add(incommingSnapshot);
-                if (fifoSnapshotBuffer.size() > (cameraConfig.getGifPreroll() + gifRecordTime)) {
-                    fifoSnapshotBuffer.removeFirst();
-                }
+                preEventSnapshots.setCapacity(cameraConfig.getGifPreroll() + gifRecordTime);
+                preEventSnapshots.add(incommingSnapshot);
             }
         } finally {
             lockCurrentSnapshot.unlock();
         }
 
+        if (motionAlarmEnabled && cameraConfig.getSnapshotMotion()) {
+            // decoding is kept off the network threads
+            threadPool.execute(() -> detectMotion(incommingSnapshot));
+        }
+
         if (streamingSnapshotMjpeg) {
             sendMjpegFrame(incommingSnapshot, snapshotMjpegChannelGroup);
         }
@@ -657,7 +682,7 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     public void stopStreamServer() {
-        serversLoopGroup.shutdownGracefully();
+        serverChannels.close();
         serverBootstrap = null;
     }
 
@@ -665,15 +690,16 @@ public class IpCameraHandler extends BaseThingHandler {
     public void startStreamServer() {
         if (serverBootstrap == null) {
             try {
-                serversLoopGroup = new NioEventLoopGroup();
                 serverBootstrap = new ServerBootstrap();
-                serverBootstrap.group(serversLoopGroup);
+                serverBootstrap.group(eventLoops.getServerGroup());
                 serverBootstrap.channel(NioServerSocketChannel.class);
                 // IP "0.0.0.0" will bind the server to all network connections//
                 serverBootstrap.localAddress(new InetSocketAddress("0.0.0.0", cameraConfig.getServerPort()));
+                serverBootstrap.childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, STREAM_WRITE_BUFFER_WATER_MARK);
                 serverBootstrap.childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel socketChannel) throws Exception {
+                        serverChannels.add(socketChannel);
                         socketChannel.pipeline().addLast("idleStateHandler", new IdleStateHandler(0, 60, 0));
                         socketChannel.pipeline().addLast("HttpServerCodec", new HttpServerCodec());
                         socketChannel.pipeline().addLast("ChunkedWriteHandler", new ChunkedWriteHandler());
@@ -682,6 +708,7 @@ public class IpCameraHandler extends BaseThingHandler {
                 });
                 serverFuture = serverBootstrap.bind().sync();
                 serverFuture.await(4000);
+                serverChannels.add(serverFuture.channel());
                 logger.debug("File server for camera at {} has started on port {} for all NIC's.", cameraConfig.getIp(),
                         cameraConfig.getServerPort());
                 updateState(CHANNEL_MJPEG_URL,
@@ -830,16 +857,33 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     public void sendMjpegFrame(byte[] jpg, ChannelGroup channelGroup) {
-        final String boundary = "thisMjpegStream";
-        ByteBuf imageByteBuf = Unpooled.copiedBuffer(jpg);
-        int length = imageByteBuf.readableBytes();
-        String header = "--" + boundary + "\r\n" + "content-type: image/jpeg" + "\r\n" + "content-length: " + length
-                + "\r\n\r\n";
-        ByteBuf headerBbuf = Unpooled.copiedBuffer(header, 0, header.length(), StandardCharsets.UTF_8);
-        ByteBuf footerBbuf = Unpooled.copiedBuffer("\r\n", 0, 2, StandardCharsets.UTF_8);
-        streamToGroup(headerBbuf, channelGroup, false);
-        streamToGroup(imageByteBuf, channelGroup, false);
-        streamToGroup(footerBbuf, channelGroup, true);
+        // The snapshots are never modified once received, so they can be sent without copying them.
+        sendMjpegFrame(Unpooled.wrappedBuffer(jpg), channelGroup);
+    }
+
+    /**
+     * Sends a JPEG as the next part of the MJPEG streams of a group. The frame is assembled once and each viewer gets
+     * a retained duplicate of it, viewers that did not take the previous frame yet skip this one.
+     *
+     * @param jpg the JPEG, which is released once all viewers have been served.
+     * @param channelGroup the viewers to send the frame to.
+     */
+    public void sendMjpegFrame(ByteBuf jpg, ChannelGroup channelGroup) {
+        CompositeByteBuf frame = Unpooled.compositeBuffer(5);
+        frame.addComponents(true, MJPEG_PART_HEADER.duplicate(),
+                Unpooled.wrappedBuffer((jpg.readableBytes() + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII)), jpg,
+                MJPEG_PART_FOOTER.duplicate());
+        try {
+            for (Channel channel : channelGroup) {
+                if (channel.isWritable()) {
+                    channel.writeAndFlush(frame.retainedDuplicate(), channel.voidPromise());
+                } else {
+                    droppedMjpegFrames.incrementAndGet();
+                }
+            }
+        } finally {
+            frame.release();
+        }
     }
 
     public void streamToGroup(Object msg, ChannelGroup channelGroup, boolean flush) {
@@ -849,26 +893,47 @@ public class IpCameraHandler extends BaseThingHandler {
         }
     }
 
+    private void detectMotion(byte[] snapshot) {
+        if (motionAlarmEnabled && snapshotMotionDetector.processSnapshot(snapshot, motionThreshold)) {
+            if (snapshotMotionDetector.isMotion()) {
+                motionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
+            } else {
+                noMotionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
+            }
+        }
+    }
+
+    /**
+     * Starts or stops the snapshot polling that the motion detection uses when it is done from the snapshots instead
+     * of with FFmpeg.
+     */
+    private void setupSnapshotMotion() {
+        snapshotMotionDetector.reset();
+        if (motionAlarmEnabled) {
+            if (!snapshotPolling && !ffmpegSnapshotGeneration) {
+                snapshotPolling = true;
+                snapshotJob = threadPool.scheduleAtFixedRate(this::snapshotRunnable, 200, cameraConfig.getPollTime(),
+                        TimeUnit.MILLISECONDS);
+            }
+        } else {
+            stopSnapshotPolling();
+        }
+    }
+
     private void storeSnapshots() {
         int count = 0;
-        // Need to lock as fifoSnapshotBuffer is not thread safe and new snapshots can be incoming.
-        lockCurrentSnapshot.lock();
-        try {
-            for (byte[] foo : fifoSnapshotBuffer) {
-                File file = new File(cameraConfig.getFfmpegOutput() + "snapshot" + count + ".jpg");
-                count++;
-                try {
-                    OutputStream fos = new FileOutputStream(file);
-                    fos.write(foo);
-                    fos.close();
-                } catch (FileNotFoundException e) {
-                    logger.warn("FileNotFoundException {}", e.getMessage());
-                } catch (IOException e) {
-                    logger.warn("IOException {}", e.getMessage());
-                }
+        for (byte[] foo : preEventSnapshots.getSnapshots()) {
+            File file = new File(cameraConfig.getFfmpegOutput() + "snapshot" + count + ".jpg");
+            count++;
+            try {
+                OutputStream fos = new FileOutputStream(file);
+                fos.write(foo);
+                fos.close();
+            } catch (FileNotFoundException e) {
+                logger.warn("FileNotFoundException {}", e.getMessage());
+            } catch (IOException e) {
+                logger.warn("IOException {}", e.getMessage());
             }
-        } finally {
-            lockCurrentSnapshot.unlock();
         }
     }
 
@@ -975,10 +1040,12 @@ public class IpCameraHandler extends BaseThingHandler {
                 setChannelState(CHANNEL_MP4_HISTORY, new StringType(mp4History));
                 break;
             case RTSP_ALARMS:
+                // Motion is detected from the snapshots instead of by FFmpeg when snapshotMotion is set.
+                boolean ffmpegMotion = motionAlarmEnabled && !cameraConfig.getSnapshotMotion();
                 Ffmpeg localAlarms = ffmpegRtspHelper;
                 if (localAlarms != null) {
                     localAlarms.stopConverting();
-                    if (!audioAlarmEnabled && !motionAlarmEnabled) {
+                    if (!audioAlarmEnabled && !ffmpegMotion) {
                         return;
                     }
                 }
@@ -989,9 +1056,9 @@ public class IpCameraHandler extends BaseThingHandler {
                 } else {
                     filterOptions = "-af silencedetect=n=-" + audioThreshold + "dB:d=2";
                 }
-                if (!motionAlarmEnabled && !ffmpegSnapshotGeneration) {
+                if (!ffmpegMotion && !ffmpegSnapshotGeneration) {
                     filterOptions = filterOptions.concat(" -vn");
-                } else if (motionAlarmEnabled && !cameraConfig.getMotionOptions().isEmpty()) {
+                } else if (ffmpegMotion && !cameraConfig.getMotionOptions().isEmpty()) {
                     String usersMotionOptions = cameraConfig.getMotionOptions();
                     if (usersMotionOptions.startsWith("-")) {
                         // Need to put the users custom options first in the chain before the motion is detected
@@ -1001,7 +1068,7 @@ public class IpCameraHandler extends BaseThingHandler {
                         filterOptions = filterOptions + " " + usersMotionOptions + " -vf select='gte(scene,"
                                 + motionThreshold + ")',metadata=print";
                     }
-                } else if (motionAlarmEnabled) {
+                } else if (ffmpegMotion) {
                     filterOptions = filterOptions
                             .concat(" -vf select='gte(scene," + motionThreshold + ")',metadata=print");
                 }
@@ -1207,6 +1274,10 @@ public class IpCameraHandler extends BaseThingHandler {
                         motionThreshold = Double.valueOf(command.toString());
                         motionThreshold = motionThreshold / 10000;
                     }
+                    if (cameraConfig.getSnapshotMotion()) {
+                        setupSnapshotMotion();
+                        return;
+                    }
                     setupFfmpegFormat(FFmpegFormat.RTSP_ALARMS);
                     return;
                 case CHANNEL_START_STREAM:
@@ -1445,6 +1516,10 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     void pollingCameraConnection() {
+        logger.debug("Camera {} has {} open channels, {} stream server channels and {} MJPEG viewers, "
+                + "sharing {} client and {} server threads with all cameras. {} frames were skipped for slow viewers.",
+                cameraConfig.getIp(), openChannels.size(), serverChannels.size(), mjpegChannelGroup.size(),
+                eventLoops.getClientThreads(), eventLoops.getServerThreads(), droppedMjpegFrames.get());
         if (thing.getThingTypeUID().getId().equals(GENERIC_THING)) {
             if (rtspUri.isEmpty()) {
                 logger.warn("Binding has not been supplied with a FFmpeg Input URL, so some features will not work.");
@@ -1508,6 +1583,9 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     public void stopSnapshotPolling() {
+        if (motionAlarmEnabled && cameraConfig.getSnapshotMotion()) {
+            return; // the motion detection needs the snapshots
+        }
         Future<?> localFuture;
         if (!streamingSnapshotMjpeg && cameraConfig.getGifPreroll() == 0
                 && !cameraConfig.getUpdateImageWhen().contains("1")) {
@@ -26,8 +26,6 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultHttpRequest;
@@ -50,7 +48,6 @@ import io.netty.handler.timeout.IdleStateHandler;
 public class RtspConnection {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private @Nullable Bootstrap rtspBootstrap;
-    private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup();
     private IpCameraHandler ipCameraHandler;
     String username, password;
 
@@ -122,7 +119,7 @@ public class RtspConnection {
     public void sendRtspRequest(HttpRequest request) {
         if (rtspBootstrap == null) {
             rtspBootstrap = new Bootstrap();
-            rtspBootstrap.group(mainEventLoopGroup);
+            rtspBootstrap.group(ipCameraHandler.getClientEventLoopGroup());
             rtspBootstrap.channel(NioSocketChannel.class);
             rtspBootstrap.option(ChannelOption.SO_KEEPALIVE, true);
             rtspBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 4500);
@@ -43,6 +43,8 @@ public class KNXBindingConstants {
     public static final String MANUFACTURER_SERIAL_NO = "manfacturerserialnumber";
     public static final String MANUFACTURER_HARDWARE_TYPE = "manfacturerhardwaretype";
     public static final String MANUFACTURER_FIRMWARE_REVISION = "manfacturerfirmwarerevision";
+    public static final String PROPERTY_READ_QUEUE_READS = "readQueueReads";
+    public static final String PROPERTY_READ_QUEUE_DURATION = "readQueueDuration";
 
     // Thing Configuration parameters
     public static final String IP_ADDRESS = "ipAddress";
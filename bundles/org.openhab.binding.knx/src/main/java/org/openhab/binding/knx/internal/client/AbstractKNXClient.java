@@ -12,12 +12,17 @@
  */
 package org.openhab.binding.knx.internal.client;
 
+import static org.openhab.binding.knx.internal.KNXBindingConstants.*;
+
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -64,13 +69,14 @@ import tuwien.auto.calimero.process.ProcessListener;
 public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClient {
 
     private static final int MAX_SEND_ATTEMPTS = 2;
+    // A read response slower than this is taken as a sign of a congested bus and slows down reading
+    private static final long SLOW_READ_RESPONSE_MS = 500;
 
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
     private final KNXTypeMapper typeHelper = new KNXCoreTypeMapper();
 
     private final ThingUID thingUID;
     private final int responseTimeout;
-    private final int readingPause;
     private final int autoReconnectPeriod;
     private final int readRetriesLimit;
     private final StatusUpdateCallback statusUpdateCallback;
@@ -82,11 +88,25 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ManagementClient managementClient;
     private @Nullable KNXNetworkLink link;
     private @Nullable DeviceInfoClient deviceInfoClient;
-    private @Nullable ScheduledFuture<?> busJob;
+    private volatile @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
+    // Listeners indexed by the group addresses they are interested in, and the addresses they were indexed with
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressListeners = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> listenerGroupAddresses = new ConcurrentHashMap<>();
     private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    // The group addresses in readDatapoints, to deduplicate reads requested by several things
+    private final Set<GroupAddress> queuedReadAddresses = ConcurrentHashMap.newKeySet();
+    // The System.nanoTime() of the latest value received for a group address
+    private final Map<GroupAddress, Long> lastValueReceived = new ConcurrentHashMap<>();
+    // Incremented on every (re-)connect, stops the read job of a previous connection
+    private final AtomicInteger readJobGeneration = new AtomicInteger();
+    private final long minReadingPause;
+    private final long maxReadingPause;
+    private volatile long currentReadingPause;
+    private long readQueueFilledAt;
+    private int readQueueReads;
+    private volatile long lastReadQueueDuration = -1;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -128,7 +148,9 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.autoReconnectPeriod = autoReconnectPeriod;
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
-        this.readingPause = readingPause;
+        this.minReadingPause = Math.max(1, readingPause / 5);
+        this.maxReadingPause = Math.max(1, readingPause * 4L);
+        this.currentReadingPause = Math.max(1, readingPause);
         this.readRetriesLimit = readRetriesLimit;
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
@@ -196,8 +218,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
             link.addLinkListener(this);
 
-            busJob = knxScheduler.scheduleWithFixedDelay(() -> readNextQueuedDatapoint(), 0, readingPause,
-                    TimeUnit.MILLISECONDS);
+            scheduleNextRead(readJobGeneration.incrementAndGet(), 0);
 
             statusUpdateCallback.updateStatus(ThingStatus.ONLINE);
             connectJob = null;
@@ -224,7 +245,11 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     @SuppressWarnings("null")
     private void releaseConnection() {
         logger.debug("Bridge {} is disconnecting from the KNX bus", thingUID);
-        readDatapoints.clear();
+        synchronized (readDatapoints) {
+            readDatapoints.clear();
+            queuedReadAddresses.clear();
+        }
+        readJobGeneration.incrementAndGet();
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, mp -> mp.detach());
@@ -252,11 +277,22 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
+        if (asdu.length > 0) {
+            lastValueReceived.put(destination, System.nanoTime());
         }
+        Set<GroupAddressListener> listeners = groupAddressListeners.get(destination);
+        if (listeners == null || listeners.isEmpty()) {
+            return;
+        }
+        knxScheduler.execute(() -> {
+            for (GroupAddressListener listener : listeners) {
+                try {
+                    action.apply(listener, source, destination, asdu);
+                } catch (RuntimeException e) {
+                    logger.warn("Listener failed to process a {} telegram to '{}'", task, destination, e);
+                }
+            }
+        });
     }
 
     /**
@@ -271,33 +307,101 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         return typeHelper.toDPTValue(type, dpt);
     }
 
+    private void scheduleNextRead(int generation, long delay) {
+        busJob = knxScheduler.schedule(() -> {
+            long nextDelay = readNextQueuedDatapoint();
+            // Only continue if there was no reconnect or disconnect in the meantime
+            if (generation == readJobGeneration.get()) {
+                scheduleNextRead(generation, nextDelay);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends a read request for the next queued datapoint.
+     *
+     * The pause to the next request adapts to the bus: it shrinks while read requests are answered quickly and grows
+     * if responses are slow or requests fail, within a fifth and four times the configured reading pause.
+     *
+     * @return the pause in milliseconds until the next datapoint should be read
+     */
     @SuppressWarnings("null")
-    private void readNextQueuedDatapoint() {
+    private long readNextQueuedDatapoint() {
         if (!connectIfNotAutomatic()) {
-            return;
+            return currentReadingPause;
         }
         ProcessCommunicator processCommunicator = this.processCommunicator;
         if (processCommunicator == null) {
-            return;
+            return currentReadingPause;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
-        if (datapoint != null) {
-            datapoint.incrementRetries();
-            try {
-                logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
-                processCommunicator.read(datapoint.getDatapoint());
-            } catch (KNXException e) {
-                if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
-                    logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
-                            datapoint.getDatapoint().getMainAddress(), e.getMessage());
-                } else {
-                    logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
-                            datapoint.getDatapoint().getMainAddress(), datapoint.getLimit());
+        ReadDatapoint datapoint = pollReadDatapoint();
+        if (datapoint == null) {
+            return currentReadingPause;
+        }
+        GroupAddress address = datapoint.getDatapoint().getMainAddress();
+        Long valueReceived = lastValueReceived.get(address);
+        if (valueReceived != null && valueReceived - datapoint.getQueuedAt() > 0) {
+            logger.trace("Skipping Group Read Request for {}, a value has been received in the meantime", address);
+            return 0;
+        }
+        datapoint.incrementRetries();
+        long start = System.nanoTime();
+        try {
+            logger.trace("Sending a Group Read Request telegram for {}", address);
+            processCommunicator.read(datapoint.getDatapoint());
+            long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (latency < SLOW_READ_RESPONSE_MS) {
+                currentReadingPause = Math.max(minReadingPause, currentReadingPause * 3 / 4);
+            } else {
+                currentReadingPause = Math.min(maxReadingPause, currentReadingPause * 2);
+            }
+            logger.trace("Read {} in {} ms, next read in {} ms ({} queued)", address, latency, currentReadingPause,
+                    readDatapoints.size());
+        } catch (KNXException e) {
+            currentReadingPause = Math.min(maxReadingPause, currentReadingPause * 2);
+            if (datapoint.getRetries() < datapoint.getLimit()) {
+                queueReadDatapoint(datapoint);
+                logger.debug("Could not read value for datapoint {}: {}. Going to retry.", address, e.getMessage());
+            } else {
+                logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.", address,
+                        datapoint.getLimit());
+            }
+        } catch (InterruptedException e) {
+            logger.debug("Interrupted sending KNX read request");
+            Thread.currentThread().interrupt();
+        }
+        return currentReadingPause;
+    }
+
+    private @Nullable ReadDatapoint pollReadDatapoint() {
+        ReadDatapoint datapoint;
+        int reads;
+        synchronized (readDatapoints) {
+            datapoint = readDatapoints.poll();
+            if (datapoint == null) {
+                return null;
+            }
+            queuedReadAddresses.remove(datapoint.getDatapoint().getMainAddress());
+            reads = ++readQueueReads;
+            if (!readDatapoints.isEmpty()) {
+                return datapoint;
+            }
+            lastReadQueueDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - readQueueFilledAt);
+        }
+        logger.debug("Read all {} queued datapoints of {} in {} ms", reads, thingUID, lastReadQueueDuration);
+        statusUpdateCallback.updateProperty(PROPERTY_READ_QUEUE_READS, String.valueOf(reads));
+        statusUpdateCallback.updateProperty(PROPERTY_READ_QUEUE_DURATION, String.valueOf(lastReadQueueDuration));
+        return datapoint;
+    }
+
+    private void queueReadDatapoint(ReadDatapoint datapoint) {
+        synchronized (readDatapoints) {
+            if (queuedReadAddresses.add(datapoint.getDatapoint().getMainAddress())) {
+                if (readDatapoints.isEmpty()) {
+                    readQueueFilledAt = System.nanoTime();
+                    readQueueReads = 0;
                 }
-            } catch (InterruptedException e) {
-                logger.debug("Interrupted sending KNX read request");
-                return;
+                readDatapoints.add(datapoint);
             }
         }
     }
@@ -368,22 +472,57 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     @Override
     public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+        // Reads of the same group address by several things are sent only once
+        queueReadDatapoint(new ReadDatapoint(datapoint, readRetriesLimit));
     }
 
     @Override
-    public final boolean registerGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.add(listener);
+    public final synchronized boolean registerGroupAddressListener(GroupAddressListener listener) {
+        // Registering again re-indexes the listener, its group addresses might have changed
+        boolean added = removeFromIndex(listener) == null;
+        Set<GroupAddress> addresses = Set.copyOf(listener.getGroupAddresses());
+        for (GroupAddress address : addresses) {
+            groupAddressListeners.computeIfAbsent(address, a -> new CopyOnWriteArraySet<>()).add(listener);
+        }
+        listenerGroupAddresses.put(listener, addresses);
+        return added;
     }
 
     @Override
-    public final boolean unregisterGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.remove(listener);
+    public final synchronized boolean unregisterGroupAddressListener(GroupAddressListener listener) {
+        return removeFromIndex(listener) != null;
+    }
+
+    private @Nullable Set<GroupAddress> removeFromIndex(GroupAddressListener listener) {
+        Set<GroupAddress> addresses = listenerGroupAddresses.remove(listener);
+        if (addresses != null) {
+            for (GroupAddress address : addresses) {
+                groupAddressListeners.computeIfPresent(address, (a, listeners) -> {
+                    listeners.remove(listener);
+                    return listeners.isEmpty() ? null : listeners;
+                });
+            }
+        }
+        return addresses;
+    }
+
+    /**
+     * Returns the number of datapoints currently waiting to be read from the bus.
+     *
+     * @return the read queue depth
+     */
+    public int getReadQueueSize() {
+        return readDatapoints.size();
+    }
+
+    /**
+     * Returns how long it took to read all datapoints since the read queue was last filled, i.e. the time until the
+     * full state was known.
+     *
+     * @return the duration in milliseconds, or -1 if the read queue has not been drained yet
+     */
+    public long getLastReadQueueDuration() {
+        return lastReadQueueDuration;
     }
 
     @Override
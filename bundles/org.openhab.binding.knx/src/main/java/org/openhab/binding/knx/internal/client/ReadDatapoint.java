@@ -24,11 +24,13 @@ public class ReadDatapoint {
     private final Datapoint datapoint;
     private int retries;
     private final int limit;
+    private final long queuedAt;
 
     public ReadDatapoint(Datapoint datapoint, int limit) {
         this.datapoint = datapoint;
         this.retries = 0;
         this.limit = limit;
+        this.queuedAt = System.nanoTime();
     }
 
     public Datapoint getDatapoint() {
@@ -47,6 +49,13 @@ public class ReadDatapoint {
         return limit;
     }
 
+    /**
+     * @return the {@link System#nanoTime()} at which the read was queued
+     */
+    public long getQueuedAt() {
+        return queuedAt;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.StopMoveType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.types.Type;
+
+/**
+ * Decodes the ASDU of the most common datapoint types (1.x, 5.001/5.004/5.010, 9.x, 14.x and 232.600) directly into
+ * openHAB types, without creating a Calimero translator and without the string round-trip of
+ * {@link KNXCoreTypeMapper#toType(tuwien.auto.calimero.datapoint.Datapoint, byte[])}.
+ *
+ * The values are computed with the same arithmetic as the Calimero translators and wrapped into the openHAB types the
+ * same way as the translator based conversion does, so both conversions return equal states with equal string
+ * representations.
+ *
+ * A decoder returns {@code null} if it cannot handle the given data, the caller is expected to fall back to the
+ * translator based conversion then.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class DirectDPTDecoder {
+
+    @FunctionalInterface
+    interface Decoder {
+        @Nullable
+        Type decode(byte[] data);
+    }
+
+    /** The decoders for all supported datapoint type ids */
+    private static final Map<String, Decoder> DECODERS = new HashMap<>();
+
+    static {
+        // 1.x: 1 bit
+        for (String dptId : new String[] { "1.001", "1.002", "1.003", "1.004", "1.005", "1.006", "1.007", "1.011",
+                "1.012", "1.013", "1.014", "1.015", "1.016", "1.017", "1.018", "1.021", "1.023", "1.024", "1.100" }) {
+            DECODERS.put(dptId, data -> data.length < 1 ? null : bit(data) ? OnOffType.ON : OnOffType.OFF);
+        }
+        DECODERS.put("1.008", data -> data.length < 1 ? null : bit(data) ? UpDownType.DOWN : UpDownType.UP);
+        DECODERS.put("1.009",
+                data -> data.length < 1 ? null : bit(data) ? OpenClosedType.OPEN : OpenClosedType.CLOSED);
+        DECODERS.put("1.010", data -> data.length < 1 ? null : bit(data) ? StopMoveType.MOVE : StopMoveType.STOP);
+        DECODERS.put("1.019",
+                data -> data.length < 1 ? null : bit(data) ? OpenClosedType.OPEN : OpenClosedType.CLOSED);
+        DECODERS.put("1.022", data -> data.length < 1 ? null : DecimalType.valueOf(bit(data) ? "1" : "0"));
+
+        // 5.x: 8 bit unsigned
+        DECODERS.put("5.001", data -> data.length < 1 ? null
+                : new PercentType(BigDecimal.valueOf(Math.round(unsignedByte(data, 0) * 100.0f / 255))));
+        DECODERS.put("5.004", data -> data.length < 1 || unsignedByte(data, 0) > 100 ? null
+                : new PercentType(BigDecimal.valueOf(unsignedByte(data, 0))));
+        DECODERS.put("5.010", data -> data.length < 1 ? null : new DecimalType((double) unsignedByte(data, 0)));
+
+        // 9.x: 2 byte float
+        for (String dptId : new String[] { "9.001", "9.002", "9.003", "9.004", "9.005", "9.006", "9.008", "9.010",
+                "9.011", "9.020", "9.021", "9.022", "9.023", "9.024", "9.025", "9.026", "9.027", "9.028" }) {
+            DECODERS.put(dptId, data -> {
+                Double value = twoByteFloat(data);
+                return value == null ? null : new DecimalType(value);
+            });
+        }
+        DECODERS.put("9.007", data -> {
+            Double value = twoByteFloat(data);
+            return value == null ? null : new PercentType(BigDecimal.valueOf(Math.round(value)));
+        });
+
+        // 14.x: 4 byte float
+        for (int sub = 0; sub <= 79; sub++) {
+            DECODERS.put(String.format("14.%03d", sub), data -> {
+                Float value = fourByteFloat(data);
+                return value == null ? null : new DecimalType(value.doubleValue());
+            });
+        }
+
+        // 232.600: RGB
+        DECODERS.put("232.600", data -> data.length < 3 ? null
+                : HSBType.fromRGB(unsignedByte(data, 0), unsignedByte(data, 1), unsignedByte(data, 2)));
+    }
+
+    private DirectDPTDecoder() {
+        // prevent instantiation
+    }
+
+    /**
+     * Returns the decoder for the given datapoint type id.
+     *
+     * @param dptId the datapoint type id, e.g. "9.001"
+     * @return the decoder or {@code null} if the datapoint type is not supported by a direct decoder
+     */
+    static @Nullable Decoder forDpt(String dptId) {
+        return DECODERS.get(dptId);
+    }
+
+    private static boolean bit(byte[] data) {
+        return (data[0] & 0x01) != 0;
+    }
+
+    private static int unsignedByte(byte[] data, int index) {
+        return data[index] & 0xff;
+    }
+
+    /**
+     * KNX 2 byte float: MEEEEMMM MMMMMMMM, value = 0.01 * M * 2^E with M in two's complement. The value is computed in
+     * the same order as by the Calimero translator, so the double is the same.
+     */
+    private static @Nullable Double twoByteFloat(byte[] data) {
+        if (data.length < 2) {
+            return null;
+        }
+        int raw = (unsignedByte(data, 0) << 8) | unsignedByte(data, 1);
+        if (raw == 0x7fff) {
+            // "invalid data" marker, leave it to the translator
+            return null;
+        }
+        int exponent = (raw >> 11) & 0x0f;
+        int mantissa = raw & 0x07ff;
+        if ((raw & 0x8000) != 0) {
+            mantissa -= 0x0800;
+        }
+        return (1 << exponent) * mantissa * 0.01;
+    }
+
+    /**
+     * KNX 4 byte float: IEEE 754 single precision, big endian
+     */
+    private static @Nullable Float fourByteFloat(byte[] data) {
+        if (data.length < 4) {
+            return null;
+        }
+        int raw = (unsignedByte(data, 0) << 24) | (unsignedByte(data, 1) << 16) | (unsignedByte(data, 2) << 8)
+                | unsignedByte(data, 3);
+        float value = Float.intBitsToFloat(raw);
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            return null;
+        }
+        return value;
+    }
+}
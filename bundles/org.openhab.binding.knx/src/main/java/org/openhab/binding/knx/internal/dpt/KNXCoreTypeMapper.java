@@ -672,6 +672,21 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
 
     @Override
     public Type toType(Datapoint datapoint, byte[] data) {
+        DirectDPTDecoder.Decoder decoder = DirectDPTDecoder.forDpt(datapoint.getDPT());
+        if (decoder != null) {
+            Type type = decoder.decode(data);
+            if (type != null) {
+                return type;
+            }
+        }
+        return toTypeViaTranslator(datapoint, data);
+    }
+
+    /**
+     * Converts the data using a Calimero translator. This covers all datapoint types, but is slower than the
+     * {@link DirectDPTDecoder} because the value is formatted to a string and parsed again for many types.
+     */
+    Type toTypeViaTranslator(Datapoint datapoint, byte[] data) {
         try {
             DPTXlator translator = TranslatorTypes.createTranslator(datapoint.getMainNumber(), datapoint.getDPT());
             translator.setData(data);
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.core.types.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * Compares the conversion of received KNX data with the {@link DirectDPTDecoder} to the conversion with the Calimero
+ * translators. Before measuring, the setup checks that both conversions return the same states for all samples.
+ *
+ * Run it with the test classpath of the bundle, e.g. from the IDE through {@link #main(String[])}.
+ *
+ * @author agent - Initial contribution
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KNXCoreTypeMapperBenchmark {
+
+    @Param({ "1.001", "5.001", "5.010", "9.001", "14.019", "232.600" })
+    public String dpt = "";
+
+    private final KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+    private Datapoint datapoint = new CommandDP(new GroupAddress(0), "benchmark");
+    private byte[][] samples = new byte[0][];
+    private int next = 0;
+
+    @Setup
+    public void setUp() throws KNXFormatException {
+        datapoint = new CommandDP(new GroupAddress("1/2/3"), "benchmark", 0, dpt);
+        samples = new byte[256][];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = sample(i);
+        }
+        for (byte[] data : samples) {
+            Type expected = mapper.toTypeViaTranslator(datapoint, data);
+            Type actual = mapper.toType(datapoint, data);
+            if (!Objects.equals(expected, actual) || !String.valueOf(expected).equals(String.valueOf(actual))) {
+                throw new IllegalStateException(
+                        "DPT " + dpt + ": direct decoder returned " + actual + " but translator returned " + expected);
+            }
+        }
+    }
+
+    private byte[] sample(int i) {
+        switch (dpt) {
+            case "1.001":
+                return new byte[] { (byte) (i & 0x01) };
+            case "9.001":
+                // positive and negative values with all exponents, leaving out the "invalid data" marker 0x7fff
+                return new byte[] { (byte) (((i & 0x80) != 0 ? 0x80 : 0) | ((i & 0x0f) << 3) | (i & 0x07)),
+                        (byte) (i * 37) };
+            case "14.019":
+                float value = (i - 128) * 3.14159f;
+                int raw = Float.floatToIntBits(value);
+                return new byte[] { (byte) (raw >> 24), (byte) (raw >> 16), (byte) (raw >> 8), (byte) raw };
+            case "232.600":
+                return new byte[] { (byte) i, (byte) (255 - i), (byte) (i * 7) };
+            default:
+                return new byte[] { (byte) i };
+        }
+    }
+
+    private byte[] nextSample() {
+        next = (next + 1) & 0xff;
+        return samples[next];
+    }
+
+    @Benchmark
+    public Type directDecoder() {
+        return mapper.toType(datapoint, nextSample());
+    }
+
+    @Benchmark
+    public Type translator() {
+        return mapper.toTypeViaTranslator(datapoint, nextSample());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(KNXCoreTypeMapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
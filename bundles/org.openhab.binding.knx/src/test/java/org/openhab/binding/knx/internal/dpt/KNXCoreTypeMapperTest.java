@@ -16,6 +16,12 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.Type;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
 
 /**
  *
@@ -29,4 +35,57 @@ public class KNXCoreTypeMapperTest {
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3"), "17.001"));
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3.0"), "17.001"));
     }
+
+    @Test
+    public void testToType_directDecoderMatchesTranslator() throws KNXFormatException {
+        for (int i = 0; i <= 1; i++) {
+            assertSameType("1.001", new byte[] { (byte) i });
+            assertSameType("1.008", new byte[] { (byte) i });
+            assertSameType("1.009", new byte[] { (byte) i });
+            assertSameType("1.010", new byte[] { (byte) i });
+            assertSameType("1.022", new byte[] { (byte) i });
+        }
+        for (int i = 0; i <= 255; i++) {
+            assertSameType("5.001", new byte[] { (byte) i });
+            assertSameType("5.010", new byte[] { (byte) i });
+        }
+        for (int i = 0; i <= 100; i++) {
+            assertSameType("5.004", new byte[] { (byte) i });
+        }
+        assertSameType("9.001", new byte[] { 0x00, 0x00 });
+        assertSameType("9.001", new byte[] { 0x0c, 0x38 });
+        assertSameType("9.001", new byte[] { (byte) 0x87, (byte) 0x9c });
+        assertSameType("9.001", new byte[] { 0x0c, 0x33 });
+        assertSameType("9.001", new byte[] { (byte) 0xf8, 0x01 });
+        assertSameType("9.004", new byte[] { 0x6a, 0x50 });
+        assertSameType("9.007", new byte[] { 0x0c, 0x1a });
+        for (int exponent = 0; exponent <= 15; exponent++) {
+            for (int mantissa = 0; mantissa < 0x800; mantissa += 7) {
+                assertSameType("9.001", new byte[] { (byte) ((exponent << 3) | (mantissa >> 8)), (byte) mantissa });
+            }
+        }
+        assertSameType("14.019", toBytes(Float.floatToIntBits(3.14159f)));
+        assertSameType("14.068", toBytes(Float.floatToIntBits(21.3f)));
+        assertSameType("14.056", toBytes(Float.floatToIntBits(-123456.7f)));
+        assertSameType("14.068", toBytes(Float.floatToIntBits(0f)));
+        assertSameType("232.600", new byte[] { 0x12, (byte) 0x80, (byte) 0xff });
+    }
+
+    private void assertSameType(String dpt, byte[] data) throws KNXFormatException {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        Datapoint datapoint = new CommandDP(new GroupAddress("1/2/3"), "test", 0, dpt);
+
+        Type expected = mapper.toTypeViaTranslator(datapoint, data);
+        Type actual = mapper.toType(datapoint, data);
+
+        assertNotNull(expected);
+        assertNotNull(actual);
+        assertEquals(expected.getClass(), actual.getClass(), dpt);
+        assertEquals(expected, actual, dpt);
+        assertEquals(expected.toString(), actual.toString(), dpt);
+    }
+
+    private static byte[] toBytes(int value) {
+        return new byte[] { (byte) (value >> 24), (byte) (value >> 16), (byte) (value >> 8), (byte) value };
+    }
 }
@@ -18,6 +18,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
@@ -107,6 +108,7 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
     protected transient AttributeChanged attributeChangedListener = (b, c, d, e, f) -> {
     };
     private transient boolean complete = false;
+    private transient @Nullable Map<String, byte[]> retainedValues;
 
     /**
      * Implement this interface to be notified of an updated field.
@@ -191,11 +193,52 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
         subscriptions = getAllFields(getFieldsOf().getClass()).stream().filter(AbstractMqttAttributeClass::filterField)
                 .map(this::mapFieldToSubscriber).collect(Collectors.toList());
 
-        final CompletableFuture<?>[] futures = subscriptions.stream()
-                .map(m -> m.subscribeAndReceive(connection, timeout)).toArray(CompletableFuture[]::new);
+        final CompletableFuture<?>[] futures = subscriptions.stream().map(m -> subscribeField(m, connection, timeout))
+                .toArray(CompletableFuture[]::new);
         return CompletableFuture.allOf(startFuture, CompletableFuture.allOf(futures));
     }
 
+    /**
+     * Subscribe a single field. If already received retained values are known (see
+     * {@link #setRetainedValues(Map)}), the field is assigned immediately and no timeout is awaited.
+     * Optional fields without a known value are considered absent. Mandatory fields without a known value
+     * are awaited as usual.
+     */
+    private CompletableFuture<@Nullable Void> subscribeField(SubscribeFieldToMQTTtopic subscriber,
+            MqttBrokerConnection connection, int timeout) {
+        final Map<String, byte[]> retainedValues = this.retainedValues;
+        if (retainedValues == null) {
+            return subscriber.subscribeAndReceive(connection, timeout);
+        }
+        final byte[] payload = retainedValues.get(subscriber.topic);
+        if (payload != null) {
+            subscriber.applyRetainedValue(payload);
+        } else if (!subscriber.isMandatory()) {
+            // Keep the subscription for later changes, but do not wait for the optional value
+            subscriber.subscribeAndReceive(connection, timeout);
+            return CompletableFuture.completedFuture(null);
+        }
+        return subscriber.subscribeAndReceive(connection, timeout);
+    }
+
+    /**
+     * Provide already received retained values for the next call to
+     * {@link #subscribeAndReceive(MqttBrokerConnection, ScheduledExecutorService, String, AttributeChanged, int)}.
+     * This is useful if all topics of a device have been received with a single wildcard subscription before.
+     *
+     * @param retainedValues The retained values keyed by their full topic, or null to wait for each topic again.
+     */
+    public void setRetainedValues(@Nullable Map<String, byte[]> retainedValues) {
+        this.retainedValues = retainedValues;
+    }
+
+    /**
+     * Return the retained values set by {@link #setRetainedValues(Map)}, if any.
+     */
+    public @Nullable Map<String, byte[]> getRetainedValues() {
+        return retainedValues;
+    }
+
     /**
      * Return fields of the given class as well as all super classes.
      *
@@ -15,6 +15,7 @@ package org.openhab.binding.mqtt.generic.mapping;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -47,6 +48,8 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private final boolean mandatory;
     private boolean receivedValue = false;
+    // The value set by applyRetainedValue(). Only the first message after subscribing is compared with it.
+    private volatile byte @Nullable [] retainedPayload;
 
     /**
      * Implement this interface to be notified of an updated field.
@@ -134,6 +137,15 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
             this.scheduledFuture = null;
         }
 
+        // The broker repeats an already applied retained value right after subscribing. Don't notify twice.
+        final byte[] retainedPayload = this.retainedPayload;
+        if (retainedPayload != null) {
+            this.retainedPayload = null;
+            if (Arrays.equals(retainedPayload, payload)) {
+                return;
+            }
+        }
+
         if (payload.length == 0) {
             logger.debug("NULL payload on topic: {}", topic);
             return;
@@ -187,16 +199,41 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
                 scheduledFuture.cancel(false);
                 this.scheduledFuture = null;
             }
+            retainedPayload = null;
             future.complete(null);
             return false;
         }).thenRun(() -> {
             if (!future.isDone()) {
                 this.scheduledFuture = scheduler.schedule(this::timeoutReached, timeout, TimeUnit.MILLISECONDS);
             }
+            final byte[] retainedPayload = this.retainedPayload;
+            if (retainedPayload != null) {
+                // A message that arrives later is a new publish, even if it has the same payload
+                scheduler.schedule(() -> clearRetainedPayload(retainedPayload), timeout, TimeUnit.MILLISECONDS);
+            }
         });
         return future;
     }
 
+    private synchronized void clearRetainedPayload(byte[] payload) {
+        if (retainedPayload == payload) {
+            retainedPayload = null;
+        }
+    }
+
+    /**
+     * Apply a retained value that has been received by other means, for example by a wildcard subscription.
+     * The returned future of a subsequent {@link #subscribeAndReceive(MqttBrokerConnection, int)} is complete
+     * immediately. If the first message after subscribing repeats the payload, it is ignored. All other messages
+     * are processed as usual.
+     *
+     * @param payload The MQTT payload.
+     */
+    public void applyRetainedValue(byte[] payload) {
+        processMessage(topic, payload);
+        this.retainedPayload = payload;
+    }
+
     /**
      * Return true if the corresponding field has received a value at least once.
      */
@@ -24,6 +24,8 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -158,4 +160,43 @@ public class SubscribeFieldToMQTTtopicTests {
         future.get(50, TimeUnit.MILLISECONDS);
         assertThat(attributes.Int, is(10));
     }
+
+    @Test
+    public void RetainedValueRepeatIgnoredOnce()
+            throws InterruptedException, NoSuchFieldException, ExecutionException, TimeoutException {
+        final List<Object> values = new ArrayList<>();
+        final Field field = Attributes.class.getField("Int");
+        ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+
+        SubscribeFieldToMQTTtopic subscriber = new SubscribeFieldToMQTTtopic(scheduler, field,
+                (f, value) -> values.add(value), "homie/device123", false);
+        subscriber.applyRetainedValue("10".getBytes());
+        // The value is known already, no timeout should happen
+        subscriber.subscribeAndReceive(connection, 1000).get(50, TimeUnit.MILLISECONDS);
+
+        // The broker repeats the retained message after subscribing
+        subscriber.processMessage("ignored", "10".getBytes());
+        assertThat(values.size(), is(1));
+        // A later publish with the same payload is a new value
+        subscriber.processMessage("ignored", "10".getBytes());
+        assertThat(values.size(), is(2));
+    }
+
+    @Test
+    public void RetainedValueNotComparedAfterTimeout()
+            throws InterruptedException, NoSuchFieldException, ExecutionException, TimeoutException {
+        final List<Object> values = new ArrayList<>();
+        final Field field = Attributes.class.getField("Int");
+        ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+
+        SubscribeFieldToMQTTtopic subscriber = new SubscribeFieldToMQTTtopic(scheduler, field,
+                (f, value) -> values.add(value), "homie/device123", false);
+        subscriber.applyRetainedValue("10".getBytes());
+        subscriber.subscribeAndReceive(connection, 50).get(50, TimeUnit.MILLISECONDS);
+
+        // The broker didn't repeat the retained message, so this publish is new
+        Thread.sleep(200);
+        subscriber.processMessage("ignored", "10".getBytes());
+        assertThat(values.size(), is(2));
+    }
 }
@@ -14,8 +14,10 @@ package org.openhab.binding.mqtt.homeassistant.internal;
 
 import java.lang.ref.WeakReference;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -58,6 +60,9 @@ public class DiscoverComponents implements MqttMessageSubscriber {
     protected @NonNullByDefault({}) ComponentDiscovered discoveredListener;
     private int discoverTime;
     private Set<String> topics = new HashSet<>();
+    // The hash code ({@link String#hashCode()}) of the last handled configuration per config topic.
+    // Retained configurations that did not change are not parsed again.
+    private final Map<String, Integer> knownConfigHashes = new ConcurrentHashMap<>();
 
     /**
      * Implement this to get notified of new components
@@ -93,6 +98,15 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         HaID haID = new HaID(topic);
         String config = new String(payload);
 
+        Integer knownHash = knownConfigHashes.get(topic);
+        if (config.isEmpty()) {
+            knownConfigHashes.remove(topic);
+        } else if (knownHash != null && knownHash == config.hashCode()) {
+            logger.trace("Configuration of HomeAssistant thing {} component {} unchanged", haID.objectID,
+                    haID.component);
+            return;
+        }
+
         AbstractComponent<?> component = null;
 
         if (config.length() > 0) {
@@ -101,6 +115,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         }
         if (component != null) {
             component.setConfigSeen();
+            knownConfigHashes.put(topic, component.getConfigHash());
 
             logger.trace("Found HomeAssistant thing {} component {}", haID.objectID, haID.component);
             if (discoveredListener != null) {
@@ -111,6 +126,26 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         }
     }
 
+    /**
+     * Remember the configuration of an already known component, for example one that got restored from the Thing
+     * channel configuration. A retained configuration message with the same content will not be parsed again and
+     * will not cause the component to be recreated.
+     *
+     * @param haID The location of the component
+     * @param configJSON The configuration string the component was created from
+     */
+    public void addKnownConfig(HaID haID, String configJSON) {
+        knownConfigHashes.put(haID.getTopic("config"), configJSON.hashCode());
+    }
+
+    /**
+     * Forget all known configurations. The next received configuration message of each component will be
+     * parsed again.
+     */
+    public void clearKnownConfigs() {
+        knownConfigHashes.clear();
+    }
+
     /**
      * Start a components discovery.
      *
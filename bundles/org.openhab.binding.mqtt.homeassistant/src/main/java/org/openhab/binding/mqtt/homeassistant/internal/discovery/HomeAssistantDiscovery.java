@@ -66,6 +66,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     protected final Map<String, Set<HaID>> componentsPerThingID = new TreeMap<>();
     protected final Map<String, ThingUID> thingIDPerTopic = new TreeMap<>();
     protected final Map<String, DiscoveryResult> results = new ConcurrentHashMap<>();
+    protected final Map<String, CachedConfig> configPerTopic = new ConcurrentHashMap<>();
 
     private @Nullable ScheduledFuture<?> future;
     private final Gson gson;
@@ -147,8 +148,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         }
         this.future = scheduler.schedule(this::publishResults, 2, TimeUnit.SECONDS);
 
-        BaseChannelConfiguration config = BaseChannelConfiguration
-                .fromString(new String(payload, StandardCharsets.UTF_8), gson);
+        BaseChannelConfiguration config = parseConfig(topic, new String(payload, StandardCharsets.UTF_8));
 
         // We will of course find multiple of the same unique Thing IDs, for each different component another one.
         // Therefore the components are assembled into a list and given to the DiscoveryResult label for the user to
@@ -186,6 +186,21 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
                         .withLabel(config.getThingName() + " (" + componentNames + ")").build());
     }
 
+    /**
+     * Parses the base properties of a configuration, or returns the already parsed configuration if the
+     * same content has been received on this topic before.
+     */
+    private BaseChannelConfiguration parseConfig(String topic, String configJSON) {
+        final int hash = configJSON.hashCode();
+        CachedConfig cached = configPerTopic.get(topic);
+        if (cached != null && cached.hash == hash) {
+            return cached.config;
+        }
+        BaseChannelConfiguration config = BaseChannelConfiguration.fromString(configJSON, gson);
+        configPerTopic.put(topic, new CachedConfig(hash, config));
+        return config;
+    }
+
     protected void publishResults() {
         Collection<DiscoveryResult> localResults;
 
@@ -206,6 +221,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         if (!topic.endsWith("/config")) {
             return;
         }
+        configPerTopic.remove(topic);
         if (thingIDPerTopic.containsKey(topic)) {
             ThingUID thingUID = thingIDPerTopic.remove(topic);
             final String thingID = thingUID.getId();
@@ -219,4 +235,17 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
             }
         }
     }
+
+    /**
+     * A parsed configuration together with the hash code ({@link String#hashCode()}) of its source string.
+     */
+    protected static class CachedConfig {
+        final int hash;
+        final BaseChannelConfiguration config;
+
+        CachedConfig(int hash, BaseChannelConfiguration config) {
+            this.hash = hash;
+            this.config = config;
+        }
+    }
 }
@@ -137,19 +137,23 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                 logger.warn("Channel {} has no groupd ID", channel.getLabel());
                 continue;
             }
+            HaID haID = HaID.fromConfig(config.basetopic, channel.getConfiguration());
+            String channelConfigurationJSON = (String) channel.getConfiguration().get("config");
+
             // Already restored component?
             @Nullable
             AbstractComponent<?> component = haComponents.get(groupID);
             if (component != null) {
                 // the types may have been removed in dispose() so we need to add them again
                 component.addChannelTypes(channelTypeProvider);
+                if (channelConfigurationJSON != null) {
+                    discoverComponents.addKnownConfig(haID, channelConfigurationJSON);
+                }
                 continue;
             }
 
-            HaID haID = HaID.fromConfig(config.basetopic, channel.getConfiguration());
             discoveryHomeAssistantIDs.add(haID);
             ThingUID thingUID = channel.getUID().getThingUID();
-            String channelConfigurationJSON = (String) channel.getConfiguration().get("config");
             if (channelConfigurationJSON == null) {
                 logger.warn("Provided channel does not have a 'config' configuration key!");
             } else {
@@ -160,6 +164,8 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
             if (component != null) {
                 haComponents.put(component.uid().getId(), component);
                 component.addChannelTypes(channelTypeProvider);
+                // The retained configuration message of this component doesn't need to be parsed again
+                discoverComponents.addKnownConfig(haID, channelConfigurationJSON);
             } else {
                 logger.warn("Could not restore component {}", thing);
             }
@@ -173,6 +179,8 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
     public void dispose() {
         // super.dispose() calls stop()
         super.dispose();
+        // initialize() remembers the configurations of the channels again
+        discoverComponents.clearKnownConfigs();
         haComponents.values().forEach(c -> c.removeChannelTypes(channelTypeProvider));
     }
 
@@ -14,6 +14,7 @@ package org.openhab.binding.mqtt.homie.internal.homie300;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
@@ -64,6 +65,7 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
     private String topic = "";
     public String deviceID = "";
     private boolean initialized = false;
+    private @Nullable RetainedAttributeCollector attributeCollector;
 
     /**
      * Creates a Homie Device structure. It consists of device attributes, device statistics and nodes.
@@ -99,6 +101,10 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
      * and subscribe to all node attributes. Parse node properties. This will not subscribe
      * to properties though. If subscribing to all necessary topics worked {@link #isInitialized()} will return true.
      *
+     * All retained attribute topics of the device are received with a single wildcard subscription first. As soon as
+     * the broker has sent them, the device, node and property attributes are applied in one pass without waiting
+     * for each attribute topic separately.
+     *
      * Call {@link #startChannels(MqttBrokerConnection)} subsequently.
      *
      * @param connection A broker connection
@@ -113,12 +119,25 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
             throw new IllegalStateException("You must call initialize()!");
         }
 
-        return attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout)
+        final RetainedAttributeCollector collector = new RetainedAttributeCollector(topic);
+        attributeCollector = collector;
+
+        return collector.collect(connection, scheduler, timeout).thenCompose(b -> {
+            if (collector.hasRetainedValues()) {
+                attributes.setRetainedValues(collector.getRetainedValues());
+            } else {
+                logger.debug("Device {} did not publish retained attributes. Receiving them one by one", deviceID);
+            }
+            return attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout);
+        })
                 // On success, create all nodes and tell the handler about the ready state
                 .thenCompose(b -> attributesReceived(connection, scheduler, timeout))
                 // No matter if values have been received or not -> the subscriptions have been performed
                 .whenComplete((r, e) -> {
                     initialized = true;
+                    // Further attribute changes are received by the attribute subscriptions
+                    attributes.setRetainedValues(null);
+                    collector.stop();
                 });
     }
 
@@ -174,6 +193,11 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
      * Unsubscribe from everything.
      */
     public CompletableFuture<@Nullable Void> stop() {
+        final RetainedAttributeCollector collector = attributeCollector;
+        if (collector != null) {
+            collector.stop();
+            attributeCollector = null;
+        }
         return attributes.unsubscribe().thenCompose(
                 b -> CompletableFuture.allOf(nodes.stream().map(Node::stop).toArray(CompletableFuture[]::new)));
     }
@@ -275,8 +299,11 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
 
     CompletableFuture<@Nullable Void> applyNodes(MqttBrokerConnection connection, ScheduledExecutorService scheduler,
             int timeout) {
-        return nodes.apply(attributes.nodes, node -> node.subscribe(connection, scheduler, timeout), this::createNode,
-                this::notifyNodeRemoved).exceptionally(e -> {
+        final Map<String, byte[]> retainedValues = attributes.getRetainedValues();
+        return nodes.apply(attributes.nodes, node -> {
+            node.attributes.setRetainedValues(retainedValues);
+            return node.subscribe(connection, scheduler, timeout);
+        }, this::createNode, this::notifyNodeRemoved).exceptionally(e -> {
                     logger.warn("Could not subscribe", e);
                     return null;
                 });
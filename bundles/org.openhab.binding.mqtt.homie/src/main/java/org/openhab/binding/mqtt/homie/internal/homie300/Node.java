@@ -14,6 +14,7 @@ package org.openhab.binding.mqtt.homie.internal.homie300;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
@@ -89,6 +90,7 @@ public class Node implements AbstractMqttAttributeClass.AttributeChanged {
                 // No matter if values have been received or not -> the subscriptions have been performed
                 .whenComplete((r, e) -> {
                     initialized = true;
+                    attributes.setRetainedValues(null);
                 });
     }
 
@@ -173,8 +175,11 @@ public class Node implements AbstractMqttAttributeClass.AttributeChanged {
 
     protected CompletableFuture<@Nullable Void> applyProperties(MqttBrokerConnection connection,
             ScheduledExecutorService scheduler, int timeout) {
-        return properties.apply(attributes.properties, prop -> prop.subscribe(connection, scheduler, timeout),
-                this::createProperty, this::notifyPropertyRemoved).exceptionally(e -> {
+        final Map<String, byte[]> retainedValues = attributes.getRetainedValues();
+        return properties.apply(attributes.properties, prop -> {
+            prop.attributes.setRetainedValues(retainedValues);
+            return prop.subscribe(connection, scheduler, timeout);
+        }, this::createProperty, this::notifyPropertyRemoved).exceptionally(e -> {
                     logger.warn("Could not subscribe", e);
                     return null;
                 });
@@ -108,6 +108,7 @@ public class Property implements AttributeChanged {
                 // No matter if values have been received or not -> the subscriptions have been performed
                 .whenComplete((r, e) -> {
                     initialized = true;
+                    attributes.setRetainedValues(null);
                 });
     }
 
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homie.internal.homie300;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects all retained attribute topics ("$name", "$properties", ...) of a Homie device with a single wildcard
+ * subscription to "homie/device-id/#".
+ *
+ * <p>
+ * The broker sends all retained messages of the device right after subscribing, in no particular order. The
+ * collection is finished as soon as no further message has arrived for a short quiet period, or when the timeout is
+ * reached. The collected values are then handed to the {@link DeviceAttributes}, {@link NodeAttributes} and
+ * {@link PropertyAttributes} objects, which do not need to wait for each of their topics separately anymore.
+ * </p>
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RetainedAttributeCollector implements MqttMessageSubscriber {
+    /**
+     * The time in milliseconds without a new message after which all retained messages are considered received.
+     */
+    static final int QUIET_PERIOD = 200;
+
+    private final Logger logger = LoggerFactory.getLogger(RetainedAttributeCollector.class);
+    private final Map<String, byte[]> retainedValues = new ConcurrentHashMap<>();
+    private final CompletableFuture<@Nullable Void> collected = new CompletableFuture<>();
+    private final String deviceTopic;
+    private final String wildcardTopic;
+    private @Nullable MqttBrokerConnection connection;
+    private @Nullable ScheduledExecutorService scheduler;
+    private @Nullable ScheduledFuture<?> quietPeriodFuture;
+    private int quietPeriod = QUIET_PERIOD;
+
+    /**
+     * Creates a collector for the given device topic.
+     *
+     * @param deviceTopic The device topic, for example "homie/device-id"
+     */
+    public RetainedAttributeCollector(String deviceTopic) {
+        this.deviceTopic = deviceTopic;
+        this.wildcardTopic = deviceTopic + "/#";
+    }
+
+    /**
+     * Subscribe to the device wildcard topic and collect all attribute topics.
+     *
+     * @param connection A broker connection
+     * @param scheduler A scheduler to realize the quiet period and the timeout
+     * @param timeout A timeout in milliseconds
+     * @return A future that completes as soon as no further retained message arrives or the timeout has been
+     *         reached. Never completes exceptionally.
+     */
+    public CompletableFuture<@Nullable Void> collect(MqttBrokerConnection connection,
+            ScheduledExecutorService scheduler, int timeout) {
+        this.connection = connection;
+        this.scheduler = scheduler;
+        this.quietPeriod = Math.min(QUIET_PERIOD, timeout);
+        connection.subscribe(wildcardTopic, this).exceptionally(e -> {
+            logger.debug("Failed to subscribe to topic {}", wildcardTopic, e);
+            collected.complete(null);
+            return false;
+        }).thenRun(this::restartQuietPeriod);
+        return collected.completeOnTimeout(null, timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Unsubscribe from the device wildcard topic. The collected values are kept.
+     */
+    public CompletableFuture<Boolean> stop() {
+        cancelQuietPeriod();
+        final MqttBrokerConnection connection = this.connection;
+        this.connection = null;
+        if (connection == null) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return connection.unsubscribe(wildcardTopic, this);
+    }
+
+    /**
+     * Return true if at least one attribute of the device has been received.
+     */
+    public boolean hasRetainedValues() {
+        return !retainedValues.isEmpty();
+    }
+
+    /**
+     * Return the collected attribute values, keyed by their full topic.
+     */
+    public Map<String, byte[]> getRetainedValues() {
+        return Collections.unmodifiableMap(retainedValues);
+    }
+
+    @Override
+    public void processMessage(String topic, byte[] payload) {
+        // Only attribute topics are of interest. Property values are subscribed to by the channels.
+        final int lastSeparator = topic.lastIndexOf('/');
+        if (lastSeparator < deviceTopic.length() || !topic.startsWith("$", lastSeparator + 1)) {
+            return;
+        }
+        if (payload.length == 0) {
+            retainedValues.remove(topic);
+        } else {
+            retainedValues.put(topic, payload);
+        }
+        if (quietPeriodFuture != null) {
+            restartQuietPeriod();
+        }
+    }
+
+    private synchronized void restartQuietPeriod() {
+        final ScheduledExecutorService scheduler = this.scheduler;
+        if (scheduler == null || collected.isDone()) {
+            return;
+        }
+        final ScheduledFuture<?> quietPeriodFuture = this.quietPeriodFuture;
+        if (quietPeriodFuture != null) {
+            quietPeriodFuture.cancel(false);
+        }
+        this.quietPeriodFuture = scheduler.schedule(() -> {
+            collected.complete(null);
+        }, quietPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void cancelQuietPeriod() {
+        final ScheduledFuture<?> quietPeriodFuture = this.quietPeriodFuture;
+        if (quietPeriodFuture != null) {
+            quietPeriodFuture.cancel(false);
+        }
+        this.scheduler = null;
+    }
+}
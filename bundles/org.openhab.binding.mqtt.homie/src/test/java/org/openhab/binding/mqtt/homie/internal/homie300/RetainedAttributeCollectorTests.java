@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homie.internal.homie300;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+
+/**
+ * Tests cases for {@link RetainedAttributeCollector}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.WARN)
+@NonNullByDefault
+public class RetainedAttributeCollectorTests {
+    private static final String DEVICE_TOPIC = "homie/device123";
+    // far longer than the quiet period, the tests fail if the collection waits for it
+    private static final int TIMEOUT = 10000;
+
+    private @Mock @NonNullByDefault({}) MqttBrokerConnection connection;
+
+    private final ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(CompletableFuture.completedFuture(true)).when(connection).subscribe(any(), any());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void finishesAfterQuietPeriodWithoutState() throws Exception {
+        RetainedAttributeCollector collector = new RetainedAttributeCollector(DEVICE_TOPIC);
+        CompletableFuture<@Nullable Void> future = collector.collect(connection, scheduler, TIMEOUT);
+
+        // $state is not necessarily the last retained message, here it isn't sent at all
+        collector.processMessage(DEVICE_TOPIC + "/$name", "Device".getBytes());
+        collector.processMessage(DEVICE_TOPIC + "/$nodes", "lamp".getBytes());
+        collector.processMessage(DEVICE_TOPIC + "/lamp/$name", "Lamp".getBytes());
+
+        future.get(RetainedAttributeCollector.QUIET_PERIOD * 5, TimeUnit.MILLISECONDS);
+        assertTrue(collector.hasRetainedValues());
+        assertEquals(Set.of(DEVICE_TOPIC + "/$name", DEVICE_TOPIC + "/$nodes", DEVICE_TOPIC + "/lamp/$name"),
+                collector.getRetainedValues().keySet());
+    }
+
+    @Test
+    public void finishesAfterQuietPeriodWithoutMessages() throws Exception {
+        RetainedAttributeCollector collector = new RetainedAttributeCollector(DEVICE_TOPIC);
+
+        collector.collect(connection, scheduler, TIMEOUT).get(RetainedAttributeCollector.QUIET_PERIOD * 5,
+                TimeUnit.MILLISECONDS);
+        assertFalse(collector.hasRetainedValues());
+    }
+
+    @Test
+    public void ignoresPropertyValuesAndClearedAttributes() throws Exception {
+        RetainedAttributeCollector collector = new RetainedAttributeCollector(DEVICE_TOPIC);
+        CompletableFuture<@Nullable Void> future = collector.collect(connection, scheduler, TIMEOUT);
+
+        collector.processMessage(DEVICE_TOPIC + "/$state", "ready".getBytes());
+        collector.processMessage(DEVICE_TOPIC + "/lamp/power", "on".getBytes());
+        collector.processMessage(DEVICE_TOPIC + "/$name", "Device".getBytes());
+        collector.processMessage(DEVICE_TOPIC + "/$name", new byte[0]);
+
+        future.get(RetainedAttributeCollector.QUIET_PERIOD * 5, TimeUnit.MILLISECONDS);
+        assertEquals(Set.of(DEVICE_TOPIC + "/$state"), collector.getRetainedValues().keySet());
+    }
+}
@@ -17,10 +17,15 @@ import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.SocketException;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -35,6 +40,8 @@ import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.PresenceProbeExecutor;
+import org.openhab.binding.network.internal.utils.ProbeResultCache;
 import org.openhab.core.cache.ExpiringCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,6 +60,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     public static final int DESTINATION_TTL = 300 * 1000; // in ms, 300 s
 
     NetworkUtils networkUtils = new NetworkUtils();
+    ProbeResultCache probeResults = ProbeResultCache.SHARED;
     private final Logger logger = LoggerFactory.getLogger(PresenceDetection.class);
 
     /// Configuration variables
@@ -68,6 +76,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private long refreshIntervalInMS = 60000;
     private int timeoutInMS = 5000;
     private long lastSeenInMS;
+    private final int cacheDeviceStateTimeInMS;
 
     private @NonNullByDefault({}) String hostname;
     private @NonNullByDefault({}) ExpiringCache<@Nullable InetAddress> destination;
@@ -87,6 +96,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     public PresenceDetection(final PresenceDetectionListener updateListener, int cacheDeviceStateTimeInMS)
             throws IllegalArgumentException {
         this.updateListener = updateListener;
+        this.cacheDeviceStateTimeInMS = cacheDeviceStateTimeInMS;
         cache = new ExpiringCacheAsync<>(cacheDeviceStateTimeInMS, () -> {
             performPresenceDetection(false);
         });
@@ -279,14 +289,22 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         cache.getValue(callback);
     }
 
+    /**
+     * Returns the executor for the checks of a single presence detection. The checks of all presence
+     * detections share the threads of the {@link PresenceProbeExecutor}.
+     *
+     * @param threadCount The number of checks of the presence detection
+     */
     public ExecutorService getThreadsFor(int threadCount) {
-        return Executors.newFixedThreadPool(threadCount);
+        return PresenceProbeExecutor.newBatch();
     }
 
     /**
      * Perform a presence detection with ICMP-, ARP ping and
-     * TCP connection attempts simultaneously. A fixed thread pool will be created with as many
-     * thread as necessary to perform all tests at once.
+     * TCP connection attempts simultaneously. The checks run on the threads that are shared by
+     * all presence detections of the binding, see {@link PresenceProbeExecutor}. All TCP ports are tried at
+     * once by a single check. The results of the checks are shared with other presence detections for the same
+     * host, see {@link ProbeResultCache}.
      *
      * This is a NO-OP, if there is already an ongoing detection or if the cached value
      * is not expired yet.
@@ -314,7 +332,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         Set<String> interfaceNames = null;
 
         currentCheck = 0;
-        detectionChecks = tcpPorts.size();
+        detectionChecks = tcpPorts.isEmpty() ? 0 : 1;
         if (pingMethod != null) {
             detectionChecks += 1;
         }
@@ -330,11 +348,10 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         final ExecutorService executorService = getThreadsFor(detectionChecks);
         this.executorService = executorService;
 
-        for (Integer tcpPort : tcpPorts) {
+        if (!tcpPorts.isEmpty()) {
+            Set<Integer> ports = tcpPorts;
             executorService.execute(() -> {
-                Thread.currentThread().setName("presenceDetectionTCP_" + hostname + " " + String.valueOf(tcpPort));
-                performServicePing(tcpPort);
-                checkIfFinished();
+                performServicePing(ports).whenComplete((r, e) -> checkIfFinished());
             });
         }
 
@@ -342,17 +359,13 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         // each own executor for each network interface for other tools
         if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
             executorService.execute(() -> {
-                Thread.currentThread().setName("presenceDetectionARP_" + hostname + " ");
                 // arp-ping.exe tool capable of handling multiple interfaces by itself
-                performARPping("");
-                checkIfFinished();
+                performARPping("").whenComplete((r, e) -> checkIfFinished());
             });
         } else if (interfaceNames != null) {
             for (final String interfaceName : interfaceNames) {
                 executorService.execute(() -> {
-                    Thread.currentThread().setName("presenceDetectionARP_" + hostname + " " + interfaceName);
-                    performARPping(interfaceName);
-                    checkIfFinished();
+                    performARPping(interfaceName).whenComplete((r, e) -> checkIfFinished());
                 });
             }
         }
@@ -360,13 +373,13 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         // ICMP ping
         if (pingMethod != null) {
             executorService.execute(() -> {
+                CompletableFuture<?> check;
                 if (pingMethod != IpPingMethodEnum.JAVA_PING) {
-                    Thread.currentThread().setName("presenceDetectionICMP_" + hostname);
-                    performSystemPing();
+                    check = performSystemPing();
                 } else {
-                    performJavaPing();
+                    check = performJavaPing();
                 }
-                checkIfFinished();
+                check.whenComplete((r, e) -> checkIfFinished());
             });
         }
 
@@ -393,6 +406,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         service.shutdownNow();
         executorService = null;
         detectionChecks = 0;
+        notifyAll();
 
         PresenceDetectionValue v;
 
@@ -439,7 +453,10 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
         try {
             // We may get interrupted here by cancelRefreshJob().
-            service.awaitTermination(timeoutInMS + 100, TimeUnit.MILLISECONDS);
+            if (service.awaitTermination(timeoutInMS + 100, TimeUnit.MILLISECONDS)) {
+                // Checks that joined a probe of another presence detection finish with that probe
+                waitForChecks(service, timeoutInMS + 100);
+            }
             submitFinalResult();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt(); // Reset interrupt flag
@@ -448,6 +465,18 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
     }
 
+    /**
+     * Waits until all checks of the presence detection that uses the given executor have finished.
+     */
+    private synchronized void waitForChecks(ExecutorService service, long waitInMS) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + waitInMS;
+        long remaining = waitInMS;
+        while (executorService == service && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+    }
+
     /**
      * If the cached PresenceDetectionValue has not expired yet, the cached version
      * is returned otherwise a new reachable PresenceDetectionValue is created with
@@ -473,24 +502,66 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         return v;
     }
 
-    protected void performServicePing(int tcpPort) {
-        logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
-        try {
-            InetAddress destinationAddress = destination.getValue();
-            if (destinationAddress != null) {
-                networkUtils.servicePing(destinationAddress.getHostAddress(), tcpPort, timeoutInMS).ifPresent(o -> {
-                    if (o.isSuccess()) {
-                        PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.TCP_CONNECTION,
-                                getLatency(o, preferResponseTimeAsLatency));
-                        v.addReachableTcpService(tcpPort);
-                        updateListener.partialDetectionResult(v);
-                    }
-                });
+    /**
+     * Tries to connect to all given TCP ports at once, see
+     * {@link NetworkUtils#servicePing(String, java.util.Collection, int)}.
+     *
+     * @param tcpPorts The TCP ports
+     * @return Completes when the results of all ports have been processed.
+     */
+    protected CompletableFuture<?> performServicePing(Set<Integer> tcpPorts) {
+        logger.trace("Perform TCP presence detection for {} on ports: {}", hostname, tcpPorts);
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String address = destinationAddress.getHostAddress();
+        Map<String, Integer> portsByKey = new HashMap<>();
+        for (Integer tcpPort : tcpPorts) {
+            portsByKey.put("tcp " + address + ":" + tcpPort + " " + timeoutInMS, tcpPort);
+        }
+
+        Map<String, CompletableFuture<Optional<PingResult>>> results = probeResults.getAll(portsByKey.keySet(),
+                cacheDeviceStateTimeInMS, keys -> knockPorts(address, keys, portsByKey));
+
+        List<CompletableFuture<?>> checks = new ArrayList<>();
+        portsByKey.forEach((key, tcpPort) -> {
+            CompletableFuture<Optional<PingResult>> result = results.get(key);
+            if (result == null) {
+                return;
+            }
+            checks.add(result.whenComplete((o, e) -> {
+                if (e != null) {
+                    // This should not happen and might be a user configuration issue, we log a warning therefore.
+                    logger.warn("Could not create a socket connection", e);
+                } else if (o.isPresent() && o.get().isSuccess()) {
+                    PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.TCP_CONNECTION,
+                            getLatency(o.get(), preferResponseTimeAsLatency));
+                    v.addReachableTcpService(tcpPort);
+                    updateListener.partialDetectionResult(v);
+                }
+            }));
+        });
+        return CompletableFuture.allOf(checks.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private Map<String, Optional<PingResult>> knockPorts(String address, Set<String> keys,
+            Map<String, Integer> portsByKey) throws IOException {
+        Map<Integer, String> keysByPort = new HashMap<>();
+        for (String key : keys) {
+            Integer tcpPort = portsByKey.get(key);
+            if (tcpPort != null) {
+                keysByPort.put(tcpPort, key);
             }
-        } catch (IOException e) {
-            // This should not happen and might be a user configuration issue, we log a warning message therefore.
-            logger.warn("Could not create a socket connection", e);
         }
+        Map<String, Optional<PingResult>> results = new HashMap<>();
+        networkUtils.servicePing(address, keysByPort.keySet(), timeoutInMS).forEach((tcpPort, result) -> {
+            String key = keysByPort.get(tcpPort);
+            if (key != null) {
+                results.put(key, Optional.of(result));
+            }
+        });
+        return results;
     }
 
     /**
@@ -501,31 +572,31 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      * @param interfaceName The interface name. You can request a list of interface names
      *            from {@see NetworkUtils.getInterfaceNames()} for example.
      */
-    protected void performARPping(String interfaceName) {
-        try {
-            logger.trace("Perform ARP ping presence detection for {} on interface: {}", hostname, interfaceName);
-            InetAddress destinationAddress = destination.getValue();
-            if (destinationAddress == null) {
-                return;
-            }
+    protected CompletableFuture<?> performARPping(String interfaceName) {
+        logger.trace("Perform ARP ping presence detection for {} on interface: {}", hostname, interfaceName);
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String address = destinationAddress.getHostAddress();
+        // The wake up packet of iOS devices changes the result, so it has to be part of the key
+        String key = "arp " + arpPingMethod + " " + interfaceName + " " + address + " " + timeoutInMS + " "
+                + iosDevice;
+        return probeResults.get(key, cacheDeviceStateTimeInMS, () -> {
             if (iosDevice) {
                 networkUtils.wakeUpIOS(destinationAddress);
                 Thread.sleep(50);
             }
-
-            networkUtils.nativeARPPing(arpPingMethod, arpPingUtilPath, interfaceName,
-                    destinationAddress.getHostAddress(), timeoutInMS).ifPresent(o -> {
-                        if (o.isSuccess()) {
-                            PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.ARP_PING,
-                                    getLatency(o, preferResponseTimeAsLatency));
-                            updateListener.partialDetectionResult(v);
-                        }
-                    });
-        } catch (IOException e) {
-            logger.trace("Failed to execute an arp ping for ip {}", hostname, e);
-        } catch (InterruptedException ignored) {
-            // This can be ignored, the thread will end anyway
-        }
+            return networkUtils.nativeARPPing(arpPingMethod, arpPingUtilPath, interfaceName, address, timeoutInMS);
+        }).whenComplete((o, e) -> {
+            if (e != null) {
+                logger.trace("Failed to execute an arp ping for ip {}", hostname, e);
+            } else if (o.isPresent() && o.get().isSuccess()) {
+                PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.ARP_PING,
+                        getLatency(o.get(), preferResponseTimeAsLatency));
+                updateListener.partialDetectionResult(v);
+            }
+        });
     }
 
     /**
@@ -534,43 +605,49 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      * the TCP echo service on port 7 which barely no device or server supports nowadays.
      * (http://docs.oracle.com/javase/7/docs/api/java/net/InetAddress.html#isReachable%28int%29)
      */
-    protected void performJavaPing() {
+    protected CompletableFuture<?> performJavaPing() {
         logger.trace("Perform java ping presence detection for {}", hostname);
 
         InetAddress destinationAddress = destination.getValue();
         if (destinationAddress == null) {
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
-        networkUtils.javaPing(timeoutInMS, destinationAddress).ifPresent(o -> {
-            if (o.isSuccess()) {
-                PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.ICMP_PING,
-                        getLatency(o, preferResponseTimeAsLatency));
-                updateListener.partialDetectionResult(v);
-            }
-        });
+        String key = "java " + destinationAddress.getHostAddress() + " " + timeoutInMS;
+        return probeResults
+                .get(key, cacheDeviceStateTimeInMS, () -> networkUtils.javaPing(timeoutInMS, destinationAddress))
+                .whenComplete((o, e) -> {
+                    if (e != null) {
+                        logger.trace("Failed to execute a java ping for ip {}", hostname, e);
+                    } else if (o.isPresent() && o.get().isSuccess()) {
+                        PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.ICMP_PING,
+                                getLatency(o.get(), preferResponseTimeAsLatency));
+                        updateListener.partialDetectionResult(v);
+                    }
+                });
     }
 
-    protected void performSystemPing() {
-        try {
-            logger.trace("Perform native ping presence detection for {}", hostname);
-            InetAddress destinationAddress = destination.getValue();
-            if (destinationAddress == null) {
-                return;
-            }
-
-            networkUtils.nativePing(pingMethod, destinationAddress.getHostAddress(), timeoutInMS).ifPresent(o -> {
-                if (o.isSuccess()) {
-                    PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.ICMP_PING,
-                            getLatency(o, preferResponseTimeAsLatency));
-                    updateListener.partialDetectionResult(v);
-                }
-            });
-        } catch (IOException e) {
-            logger.trace("Failed to execute a native ping for ip {}", hostname, e);
-        } catch (InterruptedException e) {
-            // This can be ignored, the thread will end anyway
+    protected CompletableFuture<?> performSystemPing() {
+        logger.trace("Perform native ping presence detection for {}", hostname);
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            return CompletableFuture.completedFuture(null);
         }
+
+        IpPingMethodEnum method = pingMethod;
+        String address = destinationAddress.getHostAddress();
+        String key = "icmp " + method + " " + address + " " + timeoutInMS;
+        return probeResults
+                .get(key, cacheDeviceStateTimeInMS, () -> networkUtils.nativePing(method, address, timeoutInMS))
+                .whenComplete((o, e) -> {
+                    if (e != null) {
+                        logger.trace("Failed to execute a native ping for ip {}", hostname, e);
+                    } else if (o.isPresent() && o.get().isSuccess()) {
+                        PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.ICMP_PING,
+                                getLatency(o.get(), preferResponseTimeAsLatency));
+                        updateListener.partialDetectionResult(v);
+                    }
+                });
     }
 
     private double getLatency(PingResult pingResult, boolean preferResponseTimeAsLatency) {
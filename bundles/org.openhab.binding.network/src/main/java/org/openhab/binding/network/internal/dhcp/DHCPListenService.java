@@ -13,6 +13,9 @@
 package org.openhab.binding.network.internal.dhcp;
 
 import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -28,6 +31,8 @@ import org.slf4j.LoggerFactory;
  * after the receive socket is closed.
  * IPRequestReceivedCallback will be called for the address that is registered and matches the
  * DHO_DHCP_REQUESTED_ADDRESS address field.
+ * The addresses of all received requests are remembered for a while, so that the network discovery can make use of
+ * them as well.
  *
  * @author David Graeff - Initial contribution
  */
@@ -36,6 +41,16 @@ public class DHCPListenService {
     static @Nullable DHCPPacketListenerServer instance;
     static Map<String, IPRequestReceivedCallback> registeredListeners = new TreeMap<>();
     static Logger logger = LoggerFactory.getLogger(DHCPListenService.class);
+    static final int MAX_SEEN_ADDRESSES = 1024;
+    static final long SEEN_ADDRESS_TTL = 24 * 60 * 60 * 1000; // in ms, 24 h
+    static Map<String, Long> seenAddresses = new LinkedHashMap<String, Long>() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_SEEN_ADDRESSES;
+        }
+    };
 
     @SuppressWarnings({ "null", "unused" })
     public static synchronized DHCPPacketListenerServer register(String hostAddress,
@@ -43,6 +58,11 @@ public class DHCPListenService {
         DHCPPacketListenerServer instance = DHCPListenService.instance;
         if (instance == null) {
             instance = new DHCPPacketListenerServer((String ipAddress) -> {
+                synchronized (seenAddresses) {
+                    // Remove first, so that the address becomes the newest entry
+                    seenAddresses.remove(ipAddress);
+                    seenAddresses.put(ipAddress, System.currentTimeMillis());
+                }
                 IPRequestReceivedCallback listener = registeredListeners.get(ipAddress);
                 if (listener != null) {
                     listener.dhcpRequestReceived(ipAddress);
@@ -73,4 +93,16 @@ public class DHCPListenService {
         }
         DHCPListenService.instance = null;
     }
+
+    /**
+     * Returns the addresses of the DHCP requests that have been received within the last 24 hours, while the
+     * listener was running.
+     */
+    public static List<String> getSeenAddresses() {
+        long oldest = System.currentTimeMillis() - SEEN_ADDRESS_TTL;
+        synchronized (seenAddresses) {
+            seenAddresses.values().removeIf(seen -> seen < oldest);
+            return new ArrayList<>(seenAddresses.keySet());
+        }
+    }
 }
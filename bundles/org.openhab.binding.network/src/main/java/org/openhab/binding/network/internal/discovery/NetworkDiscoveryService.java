@@ -14,13 +14,18 @@ package org.openhab.binding.network.internal.discovery;
 
 import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -32,11 +37,13 @@ import org.openhab.binding.network.internal.NetworkBindingConfiguration;
 import org.openhab.binding.network.internal.PresenceDetection;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
+import org.openhab.binding.network.internal.dhcp.DHCPListenService;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
 import org.openhab.core.config.discovery.DiscoveryService;
+import org.openhab.core.net.CidrAddress;
 import org.openhab.core.thing.ThingUID;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -50,6 +57,11 @@ import org.slf4j.LoggerFactory;
  * the current Network. It uses every Network Interface which is connected to a network.
  * It tries common TCP ports to connect to, ICMP pings and ARP pings.
  *
+ * The TCP ports are tried on all addresses of subnets up to /16 with a {@link PortSweep}, which has many
+ * non-blocking connection attempts in flight at once. Hosts from the ARP table and from received DHCP requests
+ * are added without probing them. ICMP and ARP pings need a process per address and are only used for the first
+ * addresses of each interface that have not been found otherwise.
+ *
  * @author Marc Mettke - Initial contribution
  * @author David Graeff - Rewritten
  */
@@ -58,23 +70,50 @@ import org.slf4j.LoggerFactory;
 public class NetworkDiscoveryService extends AbstractDiscoveryService implements PresenceDetectionListener {
     static final int PING_TIMEOUT_IN_MS = 500;
     static final int MAXIMUM_IPS_PER_INTERFACE = 255;
+    // All addresses of a /16 subnet
+    static final int MAXIMUM_SWEEP_IPS_PER_INTERFACE = 65534;
+    // Every connection attempt of the sweep uses a socket, stay well below the usual limit of open files
+    static final int MAXIMUM_CONNECTIONS_IN_FLIGHT = 512;
     private static final long DISCOVERY_RESULT_TTL = TimeUnit.MINUTES.toSeconds(10);
     private final Logger logger = LoggerFactory.getLogger(NetworkDiscoveryService.class);
 
     // TCP port 548 (Apple Filing Protocol (AFP))
     // TCP port 554 (Windows share / Linux samba)
     // TCP port 1025 (Xbox / MS-RPC)
-    private Set<Integer> tcpServicePorts = Collections
+    private static final Set<Integer> TCP_SERVICE_PORTS = Collections
             .unmodifiableSet(Stream.of(80, 548, 554, 1025).collect(Collectors.toSet()));
     private AtomicInteger scannedIPcount = new AtomicInteger(0);
+    private final Set<String> discoveredIPs = ConcurrentHashMap.newKeySet();
     private @Nullable ExecutorService executorService = null;
+    private volatile @Nullable PortSweep portSweep = null;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
 
     public NetworkDiscoveryService() {
-        super(SUPPORTED_THING_TYPES_UIDS, (int) Math.round(
-                new NetworkUtils().getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size() * (PING_TIMEOUT_IN_MS / 1000.0)),
-                false);
+        super(SUPPORTED_THING_TYPES_UIDS, estimateScanTimeout(new NetworkUtils().getInterfaceIPs()), false);
+    }
+
+    /**
+     * Estimates the duration of a scan in seconds: the sweep of all ports in batches of the connections in flight,
+     * followed by the pings of the addresses which have not been found by the sweep, at worst all of them.
+     */
+    static int estimateScanTimeout(Set<CidrAddress> interfaceIPs) {
+        long sweepIPs = 0;
+        long pingIPs = 0;
+        for (CidrAddress cidr : interfaceIPs) {
+            int hostBits = 32 - Math.max(cidr.getPrefix(), 16);
+            long addresses = Math.max(1, (1L << hostBits) - 2);
+            sweepIPs += Math.min(addresses, MAXIMUM_SWEEP_IPS_PER_INTERFACE);
+            pingIPs += Math.min(addresses, MAXIMUM_IPS_PER_INTERFACE);
+        }
+        long sweepRounds = (sweepIPs * TCP_SERVICE_PORTS.size() + MAXIMUM_CONNECTIONS_IN_FLIGHT - 1)
+                / MAXIMUM_CONNECTIONS_IN_FLIGHT;
+        long pingRounds = (pingIPs + getPingThreads() - 1) / getPingThreads();
+        return (int) Math.ceil((sweepRounds + pingRounds) * (PING_TIMEOUT_IN_MS / 1000.0)) + 1;
+    }
+
+    private static int getPingThreads() {
+        return Runtime.getRuntime().availableProcessors() * 2;
     }
 
     @Override
@@ -121,12 +160,12 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Starts the DiscoveryThread for each IP on each interface on the network
+     * Starts the scan of all networks, see {@link NetworkDiscoveryService} for the different steps.
      */
     @Override
     protected void startScan() {
         if (executorService == null) {
-            executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+            executorService = Executors.newFixedThreadPool(getPingThreads());
         }
         final ExecutorService service = executorService;
         if (service == null) {
@@ -135,36 +174,96 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         removeOlderResults(getTimestampOfLastScan(), null);
         logger.trace("Starting Network Device Discovery");
 
-        final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
+        discoveredIPs.clear();
         scannedIPcount.set(0);
+        PortSweep sweep = new PortSweep(MAXIMUM_CONNECTIONS_IN_FLIGHT, PING_TIMEOUT_IN_MS);
+        portSweep = sweep;
+        service.execute(() -> scan(service, sweep));
+    }
+
+    private void scan(ExecutorService service, PortSweep sweep) {
+        // Hosts this computer has talked to recently
+        List<String> knownIPs = new ArrayList<>(networkUtils.getArpTableIPs());
+        knownIPs.addAll(DHCPListenService.getSeenAddresses());
+        logger.trace("Found {} addresses in the ARP table and DHCP requests", knownIPs.size());
+        knownIPs.forEach(this::newPingDevice);
+
+        final Set<String> sweepIPs = networkUtils.getNetworkIPs(MAXIMUM_SWEEP_IPS_PER_INTERFACE);
+        logger.trace("Sweeping {} addresses on TCP ports {}", sweepIPs.size(), TCP_SERVICE_PORTS);
+        try {
+            sweep.run(sweepIPs, TCP_SERVICE_PORTS, new PortSweep.Listener() {
+                // A host that refuses the connection is reported once instead of for every port
+                private final Set<String> reachableIPs = new HashSet<>();
 
-        for (String ip : networkIPs) {
-            final PresenceDetection s = new PresenceDetection(this, 2000);
-            s.setHostname(ip);
-            s.setIOSDevice(true);
-            s.setUseDhcpSniffing(false);
-            s.setTimeout(PING_TIMEOUT_IN_MS);
-            // Ping devices
-            s.setUseIcmpPing(true);
-            s.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
-            // TCP devices
-            s.setServicePorts(tcpServicePorts);
-
-            service.execute(() -> {
-                Thread.currentThread().setName("Discovery thread " + ip);
-                s.performPresenceDetection(true);
-                int count = scannedIPcount.incrementAndGet();
-                if (count == networkIPs.size()) {
-                    logger.trace("Scan of {} IPs successful", scannedIPcount);
-                    stopScan();
+                @Override
+                public void portOpen(String address, int port, double latencyInMS) {
+                    newServiceDevice(address, port);
+                }
+
+                @Override
+                public void hostReachable(String address) {
+                    if (reachableIPs.add(address)) {
+                        newPingDevice(address);
+                    }
+                }
+
+                @Override
+                public void progress(int sweptAddresses, int totalAddresses) {
+                    logger.debug("Network scan swept {} of {} addresses", sweptAddresses, totalAddresses);
                 }
             });
+        } catch (IOException e) {
+            logger.warn("Cannot sweep the network for TCP services: {}", e.getMessage());
+        }
+        if (portSweep != sweep) {
+            // The scan has been stopped
+            return;
+        }
+
+        // Pings for the addresses which did not answer on any port
+        final List<String> pingIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).stream()
+                .filter(ip -> !discoveredIPs.contains(ip)).collect(Collectors.toList());
+        if (pingIPs.isEmpty()) {
+            stopScan();
+            return;
+        }
+        try {
+            for (String ip : pingIPs) {
+                ping(service, ip, pingIPs.size());
+            }
+        } catch (RejectedExecutionException e) {
+            // The scan has been stopped in the meantime
         }
     }
 
+    private void ping(ExecutorService service, String ip, int pingIPcount) {
+        final PresenceDetection s = new PresenceDetection(this, 2000);
+        s.setHostname(ip);
+        s.setIOSDevice(true);
+        s.setUseDhcpSniffing(false);
+        s.setTimeout(PING_TIMEOUT_IN_MS);
+        // Ping devices, the TCP ports have already been tried by the sweep
+        s.setUseIcmpPing(true);
+        s.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
+
+        service.execute(() -> {
+            s.performPresenceDetection(true);
+            int count = scannedIPcount.incrementAndGet();
+            if (count == pingIPcount) {
+                logger.trace("Scan of {} IPs successful", scannedIPcount);
+                stopScan();
+            }
+        });
+    }
+
     @Override
     protected synchronized void stopScan() {
         super.stopScan();
+        PortSweep sweep = portSweep;
+        if (sweep != null) {
+            sweep.cancel();
+            portSweep = null;
+        }
         final ExecutorService service = executorService;
         if (service == null) {
             return;
@@ -191,6 +290,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
      * @param tcpPort The TCP port
      */
     public void newServiceDevice(String ip, int tcpPort) {
+        discoveredIPs.add(ip);
         logger.trace("Found reachable service for device with IP address {} on port {}", ip, tcpPort);
 
         String label;
@@ -233,6 +333,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
      * @param ip The device IP
      */
     public void newPingDevice(String ip) {
+        discoveredIPs.add(ip);
         logger.trace("Found pingable network device with IP address {}", ip);
 
         Map<String, Object> properties = new HashMap<>();
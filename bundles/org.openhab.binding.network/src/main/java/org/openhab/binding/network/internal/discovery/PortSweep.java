@@ -0,0 +1,259 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PortSweep} tries to connect to a set of TCP ports on many addresses at once. The connections are opened
+ * non-blocking and handled by a single selector, with at most a fixed number of connection attempts in flight.
+ * <p>
+ * A refused connection proves that the host is up just as well as an accepted one, so both are reported.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PortSweep {
+    private final Logger logger = LoggerFactory.getLogger(PortSweep.class);
+
+    private final int maxInFlight;
+    private final int timeoutInMS;
+    private volatile boolean cancelled = false;
+
+    /**
+     * Receives the results of a sweep. All methods are called from the thread that runs the sweep.
+     */
+    public interface Listener {
+        /**
+         * A connection to the port of the address has been accepted.
+         */
+        void portOpen(String address, int port, double latencyInMS);
+
+        /**
+         * A connection to a port of the address has been refused, the host is up but does not offer the service.
+         */
+        void hostReachable(String address);
+
+        /**
+         * All ports of a number of addresses have been tried.
+         */
+        void progress(int sweptAddresses, int totalAddresses);
+    }
+
+    /**
+     * A single connection attempt.
+     */
+    private static class Attempt {
+        final Host host;
+        final int port;
+        final SocketChannel channel;
+        final long startNanos = System.nanoTime();
+        boolean done = false;
+
+        Attempt(Host host, int port, SocketChannel channel) {
+            this.host = host;
+            this.port = port;
+            this.channel = channel;
+        }
+    }
+
+    /**
+     * An address with the number of its ports that have not been tried yet.
+     */
+    private static class Host {
+        final String address;
+        int remainingPorts;
+
+        Host(String address, int remainingPorts) {
+            this.address = address;
+            this.remainingPorts = remainingPorts;
+        }
+    }
+
+    /**
+     * @param maxInFlight The maximum number of connection attempts at the same time, each uses a socket.
+     * @param timeoutInMS The time after which a connection attempt without an answer is given up.
+     */
+    public PortSweep(int maxInFlight, int timeoutInMS) {
+        this.maxInFlight = maxInFlight;
+        this.timeoutInMS = timeoutInMS;
+    }
+
+    /**
+     * Stops a running sweep, the attempts that are in flight are given up.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Tries all ports on all addresses and returns when every attempt has been answered or timed out, or the sweep
+     * has been cancelled or the calling thread has been interrupted.
+     *
+     * @param addresses The IP addresses to sweep
+     * @param ports The TCP ports to try on each address
+     * @param listener Receives the results and the progress
+     * @throws IOException If the selector cannot be opened
+     */
+    public void run(Collection<String> addresses, Collection<Integer> ports, Listener listener) throws IOException {
+        if (addresses.isEmpty() || ports.isEmpty()) {
+            return;
+        }
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMS);
+        int total = addresses.size();
+        int progressStep = Math.max(1, total / 10);
+        int swept = 0;
+
+        Iterator<String> nextAddress = addresses.iterator();
+        Host host = new Host(nextAddress.next(), ports.size());
+        Iterator<Integer> nextPort = ports.iterator();
+        // All attempts have the same timeout, so the oldest attempt is always the next one to time out
+        Deque<Attempt> inFlight = new ArrayDeque<>(maxInFlight);
+        int inFlightCount = 0;
+
+        try (Selector selector = Selector.open()) {
+            while (!cancelled && !Thread.currentThread().isInterrupted()) {
+                // Fill the window
+                while (inFlightCount < maxInFlight && (nextPort.hasNext() || nextAddress.hasNext())) {
+                    if (!nextPort.hasNext()) {
+                        host = new Host(nextAddress.next(), ports.size());
+                        nextPort = ports.iterator();
+                    }
+                    Attempt attempt = connect(selector, host, nextPort.next(), listener);
+                    if (attempt != null) {
+                        inFlight.add(attempt);
+                        inFlightCount++;
+                    } else {
+                        swept += finished(host, swept, total, progressStep, listener);
+                    }
+                }
+                if (inFlightCount == 0) {
+                    break;
+                }
+
+                Attempt oldest = inFlight.peek();
+                long waitNanos = oldest == null ? timeoutNanos : oldest.startNanos + timeoutNanos - System.nanoTime();
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos)));
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Attempt attempt = (Attempt) key.attachment();
+                    if (attempt == null || attempt.done) {
+                        continue;
+                    }
+                    complete(attempt, listener);
+                    inFlightCount--;
+                    swept += finished(attempt.host, swept, total, progressStep, listener);
+                }
+
+                // Give up the attempts that have not been answered in time
+                long now = System.nanoTime();
+                while ((oldest = inFlight.peek()) != null && (oldest.done || now - oldest.startNanos >= timeoutNanos)) {
+                    inFlight.poll();
+                    if (!oldest.done) {
+                        close(oldest);
+                        inFlightCount--;
+                        swept += finished(oldest.host, swept, total, progressStep, listener);
+                    }
+                }
+            }
+        } finally {
+            for (Attempt attempt : inFlight) {
+                close(attempt);
+            }
+        }
+    }
+
+    private @Nullable Attempt connect(Selector selector, Host host, int port, Listener listener) {
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            Attempt attempt = new Attempt(host, port, channel);
+            if (channel.connect(new InetSocketAddress(host.address, port))) {
+                // Connected immediately, which happens for local addresses
+                listener.portOpen(host.address, port, 0);
+                close(attempt);
+                return null;
+            }
+            channel.register(selector, SelectionKey.OP_CONNECT, attempt);
+            return attempt;
+        } catch (ConnectException e) {
+            listener.hostReachable(host.address);
+        } catch (IOException e) {
+            logger.trace("Cannot connect to {}:{}: {}", host.address, port, e.getMessage());
+        }
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+        return null;
+    }
+
+    private void complete(Attempt attempt, Listener listener) {
+        try {
+            if (attempt.channel.finishConnect()) {
+                double latency = (System.nanoTime() - attempt.startNanos) / 1000000.0;
+                listener.portOpen(attempt.host.address, attempt.port, latency);
+            }
+        } catch (ConnectException e) {
+            listener.hostReachable(attempt.host.address);
+        } catch (IOException e) {
+            // No route to the host or the host is unreachable
+            logger.trace("Cannot connect to {}:{}: {}", attempt.host.address, attempt.port, e.getMessage());
+        }
+        close(attempt);
+    }
+
+    private void close(Attempt attempt) {
+        attempt.done = true;
+        try {
+            attempt.channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Counts a finished attempt of the host and reports the progress if it was the last one.
+     *
+     * @return 1 if all ports of the host have been tried, 0 otherwise.
+     */
+    private int finished(Host host, int swept, int total, int progressStep, Listener listener) {
+        if (--host.remainingPorts > 0) {
+            return 0;
+        }
+        if ((swept + 1) % progressStep == 0 || swept + 1 == total) {
+            listener.progress(swept + 1, total);
+        }
+        return 1;
+    }
+}
@@ -28,10 +28,18 @@ import java.net.Socket;
 import java.net.SocketAddress;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -41,6 +49,7 @@ import org.apache.commons.lang.SystemUtils;
 import org.apache.commons.net.util.SubnetUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.discovery.PortSweep;
 import org.openhab.core.io.net.exec.ExecUtil;
 import org.openhab.core.net.CidrAddress;
 import org.openhab.core.net.NetUtil;
@@ -147,6 +156,34 @@ public class NetworkUtils {
         return networkIPs;
     }
 
+    /**
+     * Returns the IPv4 addresses of the ARP table of the operating system, that is the hosts on the local
+     * networks that this computer has talked to recently. Only entries with a resolved hardware address are
+     * returned. The ARP table is only available on Linux, an empty set is returned on other systems.
+     *
+     * @return The IP addresses of the ARP table
+     */
+    public Set<String> getArpTableIPs() {
+        Path arpTable = Paths.get("/proc/net/arp");
+        Set<String> result = new LinkedHashSet<>();
+        if (!Files.isReadable(arpTable)) {
+            return result;
+        }
+        try {
+            // IP address, HW type, Flags, HW address, Mask, Device. The first line is the header.
+            for (String line : Files.readAllLines(arpTable, StandardCharsets.US_ASCII)) {
+                String[] columns = line.trim().split("\\s+");
+                if (columns.length >= 4 && columns[2].startsWith("0x") && !"0x0".equals(columns[2])
+                        && !"00:00:00:00:00:00".equals(columns[3])) {
+                    result.add(columns[0]);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Cannot read the ARP table: {}", e.getMessage());
+        }
+        return result;
+    }
+
     /**
      * Try to establish a tcp connection to the given port. Returns false if a timeout occurred
      * or the connection was denied.
@@ -169,6 +206,44 @@ public class NetworkUtils {
         }
     }
 
+    /**
+     * Tries to establish tcp connections to all given ports at once. The connections are opened non-blocking and
+     * handled by a single selector, see {@link PortSweep}. A port fails if a timeout occurred or the connection was
+     * denied.
+     *
+     * @param host The IP address
+     * @param ports The tcp ports. Must not contain 0.
+     * @param timeout Timeout in ms
+     * @return Ping result information of each port.
+     * @throws IOException If the selector cannot be opened
+     */
+    public Map<Integer, PingResult> servicePing(String host, Collection<Integer> ports, int timeout)
+            throws IOException {
+        long execStartTimeInNS = System.nanoTime();
+        Map<Integer, PingResult> results = new HashMap<>();
+
+        new PortSweep(ports.size(), timeout).run(Collections.singleton(host), ports, new PortSweep.Listener() {
+            @Override
+            public void portOpen(String address, int port, double latencyInMS) {
+                results.put(port, new PingResult(true, latencyInMS));
+            }
+
+            @Override
+            public void hostReachable(String address) {
+            }
+
+            @Override
+            public void progress(int sweptAddresses, int totalAddresses) {
+            }
+        });
+
+        double executionTimeInMS = (System.nanoTime() - execStartTimeInNS) / 1000000.0;
+        for (Integer port : ports) {
+            results.putIfAbsent(port, new PingResult(false, executionTimeInMS));
+        }
+        return results;
+    }
+
     /**
      * Return the working method for the native system ping. If no native ping
      * works JavaPing is returned.
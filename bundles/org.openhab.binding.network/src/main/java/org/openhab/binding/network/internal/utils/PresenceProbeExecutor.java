@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.NamedThreadFactory;
+
+/**
+ * The {@link PresenceProbeExecutor} runs the pings and port knocks of all presence detections of the binding on one
+ * thread pool with a fixed maximum size, instead of every presence detection creating a thread pool of its own.
+ * <p>
+ * Each presence detection uses a {@link #newBatch()}, which behaves like an executor of its own: it can be shut down
+ * to cancel its probes and be awaited for its probes to finish, without affecting the probes of other detections.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceProbeExecutor {
+    /** The maximum number of probes that are running at the same time, further probes are queued. */
+    public static final int MAX_CONCURRENT_PROBES = 32;
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+    private static final ThreadPoolExecutor POOL = createPool();
+
+    private static ThreadPoolExecutor createPool() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(MAX_CONCURRENT_PROBES, MAX_CONCURRENT_PROBES,
+                IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new NamedThreadFactory("network-presence", true));
+        // No threads are kept while no detection is running
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private PresenceProbeExecutor() {
+    }
+
+    /**
+     * Returns a new batch of probes for a single presence detection.
+     */
+    public static ExecutorService newBatch() {
+        return new Batch();
+    }
+
+    /**
+     * Returns the number of probes that are currently running.
+     */
+    public static int getActiveProbes() {
+        return POOL.getActiveCount();
+    }
+
+    /**
+     * Returns the number of probes that are waiting for a free thread.
+     */
+    public static int getQueuedProbes() {
+        return POOL.getQueue().size();
+    }
+
+    /**
+     * The probes of a single presence detection. Time spent in the queue of the pool does not count against the
+     * timeout of {@link #awaitTermination(long, TimeUnit)}, so that probes are not given up just because the pool
+     * has been busy with the probes of other detections.
+     */
+    private static class Batch extends AbstractExecutorService {
+        private final Set<FutureTask<?>> pending = new HashSet<>();
+        private boolean shutdown = false;
+        private boolean started = false;
+        private long lastStartNanos;
+
+        @Override
+        public void execute(Runnable command) {
+            FutureTask<?> task = new FutureTask<Void>(() -> {
+                started();
+                command.run();
+            }, null) {
+                @Override
+                protected void done() {
+                    finished(this);
+                }
+            };
+            synchronized (this) {
+                if (shutdown) {
+                    throw new RejectedExecutionException("The presence detection has already finished");
+                }
+                pending.add(task);
+            }
+            POOL.execute(task);
+        }
+
+        private synchronized void started() {
+            started = true;
+            lastStartNanos = System.nanoTime();
+            notifyAll();
+        }
+
+        private synchronized void finished(FutureTask<?> task) {
+            pending.remove(task);
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            List<FutureTask<?>> tasks;
+            synchronized (this) {
+                shutdown = true;
+                tasks = new ArrayList<>(pending);
+            }
+            List<Runnable> notStarted = new ArrayList<>();
+            for (FutureTask<?> task : tasks) {
+                task.cancel(true);
+                if (POOL.remove(task)) {
+                    notStarted.add(task);
+                }
+            }
+            return notStarted;
+        }
+
+        @Override
+        public synchronized boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public synchronized boolean isTerminated() {
+            return shutdown && pending.isEmpty();
+        }
+
+        /**
+         * Waits until all probes of this batch have finished. The timeout only starts when the first probe of this
+         * batch starts, and is counted from the start of the call or the start of the last probe of this batch,
+         * whichever is later.
+         */
+        @Override
+        public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long timeoutNanos = unit.toNanos(timeout);
+            long callStartNanos = System.nanoTime();
+            while (!pending.isEmpty()) {
+                if (!started) {
+                    // All probes are still queued, they are either started or cancelled eventually
+                    wait();
+                    continue;
+                }
+                long deadline = (lastStartNanos - callStartNanos > 0 ? lastStartNanos : callStartNanos) + timeoutNanos;
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+    }
+}
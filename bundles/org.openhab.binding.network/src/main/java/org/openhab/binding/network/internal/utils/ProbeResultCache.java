@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ProbeResultCache} shares the results of pings and port knocks between all presence detections of the
+ * binding. Several things often point to the same host, for example a ping device and service devices of the same
+ * IP. A probe that is already running for the same host is joined, and a result that is younger than the maximum age
+ * is reused, so that each host is only probed once for all of its things.
+ * <p>
+ * Results are returned as futures. A caller that joins a running probe gets a future that is completed by the caller
+ * running the probe, so no thread is blocked while waiting for the probe of another presence detection.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ProbeResultCache {
+    /** The cache that is shared by all presence detections. */
+    public static final ProbeResultCache SHARED = new ProbeResultCache();
+
+    private final Map<String, Entry> results = new ConcurrentHashMap<>();
+
+    /**
+     * A single probe, like a ping of a host or a connection attempt to a port.
+     */
+    @FunctionalInterface
+    public interface Probe {
+        Optional<PingResult> run() throws IOException, InterruptedException;
+    }
+
+    /**
+     * Several probes that are run at once, like connection attempts to several ports of a host.
+     */
+    @FunctionalInterface
+    public interface MultiProbe {
+        /**
+         * @param keys The keys of the probes to run
+         * @return The results by key, a missing key has an empty result.
+         */
+        Map<String, Optional<PingResult>> run(Set<String> keys) throws IOException, InterruptedException;
+    }
+
+    private static class Entry {
+        final CompletableFuture<Optional<PingResult>> result = new CompletableFuture<>();
+        final long maxAgeInMS;
+        volatile long completedInMS;
+
+        Entry(long maxAgeInMS) {
+            this.maxAgeInMS = maxAgeInMS;
+        }
+
+        boolean isUsable(long now) {
+            return !result.isDone() || (!result.isCompletedExceptionally() && now - completedInMS < maxAgeInMS);
+        }
+
+        void complete(Optional<PingResult> value) {
+            completedInMS = System.currentTimeMillis();
+            result.complete(value);
+        }
+    }
+
+    /**
+     * Returns the result of the given probe. The probe is only run if there is neither a probe with the same key
+     * running at the moment nor a result of one that is younger than the given maximum age. If it is run, it is run
+     * by the calling thread and the returned future is already completed.
+     *
+     * @param key Identifies the probe, it has to contain everything the result depends on, like the type of the
+     *            probe, the address, port and timeout.
+     * @param maxAgeInMS How long the result of this probe may be reused.
+     * @param probe Performs the probe.
+     * @return The result of the probe. It is completed exceptionally if the probe failed, failures are not reused.
+     */
+    public CompletableFuture<Optional<PingResult>> get(String key, long maxAgeInMS, Probe probe) {
+        Map<String, CompletableFuture<Optional<PingResult>>> result = getAll(Collections.singleton(key), maxAgeInMS,
+                keys -> Collections.singletonMap(key, probe.run()));
+        return result.get(key);
+    }
+
+    /**
+     * Returns the results of several probes, see {@link #get(String, long, Probe)}. The probes that have neither a
+     * running probe nor a recent result are run at once by the calling thread.
+     *
+     * @param keys Identifies the probes
+     * @param maxAgeInMS How long the results of these probes may be reused.
+     * @param probe Performs the probes of the given keys.
+     * @return The result of each probe by key
+     */
+    public Map<String, CompletableFuture<Optional<PingResult>>> getAll(Collection<String> keys, long maxAgeInMS,
+            MultiProbe probe) {
+        long now = System.currentTimeMillis();
+        Map<String, CompletableFuture<Optional<PingResult>>> futures = new HashMap<>();
+        Map<String, Entry> own = new HashMap<>();
+        for (String key : keys) {
+            Entry newEntry = new Entry(maxAgeInMS);
+            Entry entry = results.compute(key,
+                    (k, existing) -> existing != null && existing.isUsable(now) ? existing : newEntry);
+            if (entry == newEntry) {
+                own.put(key, entry);
+            }
+            // A copy, so that callers cannot complete the shared result
+            futures.put(key, entry.result.copy());
+        }
+        if (!own.isEmpty()) {
+            run(own, probe);
+        }
+        return futures;
+    }
+
+    private void run(Map<String, Entry> own, MultiProbe probe) {
+        try {
+            Map<String, Optional<PingResult>> values = probe.run(Collections.unmodifiableSet(own.keySet()));
+            own.forEach((key, entry) -> entry.complete(values.getOrDefault(key, Optional.empty())));
+        } catch (InterruptedException e) {
+            fail(own, e);
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            fail(own, e);
+        } finally {
+            removeExpired();
+        }
+    }
+
+    private void fail(Map<String, Entry> own, Exception e) {
+        own.forEach((key, entry) -> {
+            results.remove(key, entry);
+            entry.result.completeExceptionally(e);
+        });
+    }
+
+    private void removeExpired() {
+        long now = System.currentTimeMillis();
+        results.values().removeIf(entry -> !entry.isUsable(now));
+    }
+
+    /**
+     * Removes all results, the next request of every probe will run it again.
+     */
+    public void clear() {
+        results.clear();
+    }
+}
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.net.UnknownHostException;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -41,6 +42,7 @@ import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.ProbeResultCache;
 
 /**
  * Tests cases for {@see PresenceDetectionValue}
@@ -68,6 +70,8 @@ public class PresenceDetectionTest {
 
         subject = spy(new PresenceDetection(listener, (int) CACHETIME));
         subject.networkUtils = networkUtils;
+        // Do not share results with other tests
+        subject.probeResults = new ProbeResultCache();
         subject.cache = spy(new ExpiringCacheAsync<>(CACHETIME, () -> {
             subject.performPresenceDetection(false);
         }));
@@ -95,10 +99,10 @@ public class PresenceDetectionTest {
     public void threadCountTest() {
         assertNull(subject.executorService);
 
-        doNothing().when(subject).performARPping(any());
-        doNothing().when(subject).performJavaPing();
-        doNothing().when(subject).performSystemPing();
-        doNothing().when(subject).performServicePing(anyInt());
+        doReturn(CompletableFuture.completedFuture(null)).when(subject).performARPping(any());
+        doReturn(CompletableFuture.completedFuture(null)).when(subject).performJavaPing();
+        doReturn(CompletableFuture.completedFuture(null)).when(subject).performSystemPing();
+        doReturn(CompletableFuture.completedFuture(null)).when(subject).performServicePing(anySet());
 
         subject.performPresenceDetection(false);
 
@@ -117,7 +121,8 @@ public class PresenceDetectionTest {
                 anyString(), anyInt());
         doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils)
                 .nativeARPPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(), anyString(), any(), anyInt());
-        doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils).servicePing(anyString(), anyInt(), anyInt());
+        doReturn(Collections.singletonMap(1010, new PingResult(true, 10))).when(networkUtils).servicePing(anyString(),
+                anyCollection(), anyInt());
 
         assertTrue(subject.performPresenceDetection(false));
         subject.waitForPresenceDetection();
@@ -125,7 +130,7 @@ public class PresenceDetectionTest {
         verify(subject, times(0)).performJavaPing();
         verify(subject).performSystemPing();
         verify(subject).performARPping(any());
-        verify(subject).performServicePing(anyInt());
+        verify(subject).performServicePing(anySet());
 
         verify(listener, times(3)).partialDetectionResult(any());
         ArgumentCaptor<PresenceDetectionValue> capture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
@@ -140,7 +145,8 @@ public class PresenceDetectionTest {
                 anyString(), anyInt());
         doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils)
                 .nativeARPPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(), anyString(), any(), anyInt());
-        doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils).servicePing(anyString(), anyInt(), anyInt());
+        doReturn(Collections.singletonMap(1010, new PingResult(true, 10))).when(networkUtils).servicePing(anyString(),
+                anyCollection(), anyInt());
 
         doReturn(executorService).when(subject).getThreadsFor(anyInt());
 
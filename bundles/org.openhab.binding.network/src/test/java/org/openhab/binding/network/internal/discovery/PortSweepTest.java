@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Tests cases for {@see PortSweep}
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+public class PortSweepTest {
+    private @Mock PortSweep.Listener listener;
+
+    @Test
+    public void openAndRefusedPorts() throws IOException {
+        int closedPort;
+        try (ServerSocket closed = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            closedPort = closed.getLocalPort();
+        }
+        try (ServerSocket open = new ServerSocket(0, 10, InetAddress.getLoopbackAddress())) {
+            PortSweep sweep = new PortSweep(16, 2000);
+            sweep.run(Collections.singletonList("127.0.0.1"), Arrays.asList(open.getLocalPort(), closedPort),
+                    listener);
+
+            verify(listener).portOpen(eq("127.0.0.1"), eq(open.getLocalPort()), anyDouble());
+            verify(listener).hostReachable("127.0.0.1");
+            verify(listener).progress(1, 1);
+        }
+    }
+
+    @Test
+    public void nothingToSweep() throws IOException {
+        new PortSweep(16, 2000).run(Collections.emptyList(), Collections.singletonList(80), listener);
+        verifyNoInteractions(listener);
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the results of probes are shared between presence detections.
+ *
+ * @author agent - Initial contribution
+ */
+public class ProbeResultCacheTest {
+
+    @Test
+    public void recentResultIsReused() throws Exception {
+        ProbeResultCache cache = new ProbeResultCache();
+        AtomicInteger runs = new AtomicInteger();
+        ProbeResultCache.Probe probe = () -> {
+            runs.incrementAndGet();
+            return Optional.of(new PingResult(true, 10));
+        };
+
+        assertTrue(cache.get("tcp 127.0.0.1:80", 60000, probe).get().get().isSuccess());
+        assertTrue(cache.get("tcp 127.0.0.1:80", 60000, probe).get().get().isSuccess());
+        assertEquals(1, runs.get());
+
+        cache.get("tcp 127.0.0.1:81", 60000, probe);
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void expiredResultIsNotReused() throws Exception {
+        ProbeResultCache cache = new ProbeResultCache();
+        AtomicInteger runs = new AtomicInteger();
+        ProbeResultCache.Probe probe = () -> {
+            runs.incrementAndGet();
+            return Optional.of(new PingResult(false, 10));
+        };
+
+        cache.get("icmp 127.0.0.1", 0, probe);
+        cache.get("icmp 127.0.0.1", 0, probe);
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void failureIsNotReused() throws Exception {
+        ProbeResultCache cache = new ProbeResultCache();
+        ExecutionException e = assertThrows(ExecutionException.class, () -> cache.get("arp 127.0.0.1", 60000, () -> {
+            throw new IOException("arping not found");
+        }).get());
+        assertTrue(e.getCause() instanceof IOException);
+
+        assertTrue(cache.get("arp 127.0.0.1", 60000, () -> Optional.of(new PingResult(true, 5))).get().isPresent());
+    }
+
+    @Test
+    public void runningProbeIsJoined() throws Exception {
+        ProbeResultCache cache = new ProbeResultCache();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        ProbeResultCache.Probe probe = () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            release.await();
+            return Optional.of(new PingResult(true, 10));
+        };
+
+        ExecutorService executor = PresenceProbeExecutor.newBatch();
+        Future<CompletableFuture<Optional<PingResult>>> first = executor
+                .submit(() -> cache.get("icmp 127.0.0.1", 60000, probe));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // Joining does not block until the running probe has finished
+        CompletableFuture<Optional<PingResult>> second = cache.get("icmp 127.0.0.1", 60000, probe);
+        assertFalse(second.isDone());
+        release.countDown();
+
+        assertTrue(first.get(5, TimeUnit.SECONDS).get().get().isSuccess());
+        assertTrue(second.get(5, TimeUnit.SECONDS).get().isSuccess());
+        assertEquals(1, runs.get());
+        executor.shutdown();
+    }
+
+    @Test
+    public void onlyMissingResultsAreProbed() throws Exception {
+        ProbeResultCache cache = new ProbeResultCache();
+        cache.get("tcp 127.0.0.1:80", 60000, () -> Optional.of(new PingResult(true, 10)));
+
+        List<Set<String>> runs = new ArrayList<>();
+        Map<String, CompletableFuture<Optional<PingResult>>> results = cache.getAll(
+                Arrays.asList("tcp 127.0.0.1:80", "tcp 127.0.0.1:81", "tcp 127.0.0.1:82"), 60000, keys -> {
+                    runs.add(new HashSet<>(keys));
+                    return Collections.singletonMap("tcp 127.0.0.1:81", Optional.of(new PingResult(false, 10)));
+                });
+
+        assertEquals(1, runs.size());
+        assertEquals(new HashSet<>(Arrays.asList("tcp 127.0.0.1:81", "tcp 127.0.0.1:82")), runs.get(0));
+        assertTrue(results.get("tcp 127.0.0.1:80").get().get().isSuccess());
+        assertFalse(results.get("tcp 127.0.0.1:81").get().get().isSuccess());
+        assertFalse(results.get("tcp 127.0.0.1:82").get().isPresent());
+    }
+}
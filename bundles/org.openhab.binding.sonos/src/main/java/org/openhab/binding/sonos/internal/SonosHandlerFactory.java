@@ -64,6 +64,9 @@ public class SonosHandlerFactory extends BaseThingHandlerFactory {
     private final NetworkAddressService networkAddressService;
     private final SonosStateDescriptionOptionProvider stateDescriptionProvider;
 
+    // the grouping of the players is shared by all handlers
+    private final SonosZoneTopologyTracker zoneTopologyTracker = new SonosZoneTopologyTracker();
+
     private final Map<String, ServiceRegistration<AudioSink>> audioSinkRegistrations = new ConcurrentHashMap<>();
 
     // optional OPML URL that can be configured through configuration admin
@@ -118,7 +121,7 @@ public class SonosHandlerFactory extends BaseThingHandlerFactory {
                     thing.getConfiguration().get(UDN));
 
             ZonePlayerHandler handler = new ZonePlayerHandler(thingRegistry, thing, upnpIOService, opmlUrl,
-                    stateDescriptionProvider);
+                    stateDescriptionProvider, zoneTopologyTracker);
 
             // register the speaker as an audio sink
             String callbackUrl = createCallbackUrl();
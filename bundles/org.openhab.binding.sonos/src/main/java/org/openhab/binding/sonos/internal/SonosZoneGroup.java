@@ -15,8 +15,10 @@ package org.openhab.binding.sonos.internal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * The {@link SonosZoneGroup} is data structure to describe
@@ -58,4 +60,22 @@ public class SonosZoneGroup {
     public String getId() {
         return id;
     }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SonosZoneGroup)) {
+            return false;
+        }
+        SonosZoneGroup other = (SonosZoneGroup) obj;
+        return id.equals(other.id) && coordinator.equals(other.coordinator) && members.equals(other.members)
+                && memberZoneNames.equals(other.memberZoneNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, coordinator, members, memberZoneNames);
+    }
 }
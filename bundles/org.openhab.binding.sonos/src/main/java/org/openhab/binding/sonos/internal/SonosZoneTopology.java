@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link SonosZoneTopology} is an immutable snapshot of the grouping of the Sonos players of a household, as
+ * described by the ZoneGroupState state variable. It indexes the groups by their members, so the group of a player
+ * is found without parsing the XML again.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SonosZoneTopology {
+
+    public static final SonosZoneTopology EMPTY = new SonosZoneTopology("", Collections.emptyList());
+
+    private final String zoneGroupState;
+    private final List<SonosZoneGroup> groups;
+    private final Map<String, SonosZoneGroup> groupsByMember = new HashMap<>();
+
+    private SonosZoneTopology(String zoneGroupState, List<SonosZoneGroup> groups) {
+        this.zoneGroupState = zoneGroupState;
+        this.groups = Collections.unmodifiableList(groups);
+        for (SonosZoneGroup group : groups) {
+            for (String member : group.getMembers()) {
+                groupsByMember.putIfAbsent(member, group);
+            }
+        }
+    }
+
+    public static SonosZoneTopology fromXML(String zoneGroupState) {
+        return new SonosZoneTopology(zoneGroupState, SonosXMLParser.getZoneGroupFromXML(zoneGroupState));
+    }
+
+    public String getZoneGroupState() {
+        return zoneGroupState;
+    }
+
+    public List<SonosZoneGroup> getGroups() {
+        return groups;
+    }
+
+    public boolean isEmpty() {
+        return groups.isEmpty();
+    }
+
+    /**
+     * @param udn The UDN of a player
+     * @return the group the player is member of, or null if the player is not part of the topology
+     */
+    public @Nullable SonosZoneGroup getGroup(String udn) {
+        return groupsByMember.get(udn);
+    }
+
+    /**
+     * Checks if the group of a player differs from its group in another topology.
+     *
+     * @param udn The UDN of a player
+     * @param other The other topology, null if the player didn't know any topology before
+     * @return true if the group, its coordinator or its members have changed
+     */
+    public boolean isChangedFor(String udn, @Nullable SonosZoneTopology other) {
+        return other == null || !Objects.equals(getGroup(udn), other.getGroup(udn));
+    }
+
+    /**
+     * @return the UDNs of all players that are part of the topology
+     */
+    public Set<String> getPlayers() {
+        return Collections.unmodifiableSet(groupsByMember.keySet());
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link SonosZoneTopologyTracker} holds the current {@link SonosZoneTopology} of each player. All players of a
+ * household send the same ZoneGroupState when the grouping changes, the tracker parses it only once and tells which
+ * players are affected by the change.
+ * <p>
+ * A ZoneGroupState only describes the players of one household. So the topologies are tracked per player, and the
+ * players of other households, for example S1 and S2 players on the same network, keep their own topology.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SonosZoneTopologyTracker {
+
+    private final Map<String, SonosZoneTopology> topologies = new ConcurrentHashMap<>();
+
+    /**
+     * @param udn The UDN of a player
+     * @return the topology of the household of the player, empty if it hasn't been received yet
+     */
+    public SonosZoneTopology getTopology(String udn) {
+        return topologies.getOrDefault(udn, SonosZoneTopology.EMPTY);
+    }
+
+    /**
+     * Updates the topology of the household of a player with the ZoneGroupState received from it.
+     *
+     * @param udn The UDN of the player that sent the ZoneGroupState
+     * @param zoneGroupState The value of the ZoneGroupState state variable
+     * @return the UDNs of the players whose group has changed, empty if the topology is unchanged
+     */
+    public synchronized Set<String> update(String udn, String zoneGroupState) {
+        SonosZoneTopology previous = getTopology(udn);
+        if (previous.getZoneGroupState().equals(zoneGroupState)) {
+            return Collections.emptySet();
+        }
+        SonosZoneTopology current = SonosZoneTopology.fromXML(zoneGroupState);
+
+        Set<String> changedPlayers = new HashSet<>();
+        Set<String> players = new HashSet<>(current.getPlayers());
+        players.add(udn);
+        for (String player : players) {
+            if (current.isChangedFor(player, topologies.put(player, current))) {
+                changedPlayers.add(player);
+            }
+        }
+        // players that have left the household
+        for (String player : previous.getPlayers()) {
+            if (!players.contains(player) && topologies.remove(player, previous)) {
+                changedPlayers.add(player);
+            }
+        }
+        return changedPlayers;
+    }
+}
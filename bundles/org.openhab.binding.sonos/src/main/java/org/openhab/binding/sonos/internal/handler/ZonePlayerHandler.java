@@ -26,9 +26,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -44,6 +46,8 @@ import org.openhab.binding.sonos.internal.SonosStateDescriptionOptionProvider;
 import org.openhab.binding.sonos.internal.SonosXMLParser;
 import org.openhab.binding.sonos.internal.SonosZoneGroup;
 import org.openhab.binding.sonos.internal.SonosZonePlayerState;
+import org.openhab.binding.sonos.internal.SonosZoneTopology;
+import org.openhab.binding.sonos.internal.SonosZoneTopologyTracker;
 import org.openhab.binding.sonos.internal.config.ZonePlayerConfiguration;
 import org.openhab.core.io.net.http.HttpUtil;
 import org.openhab.core.io.transport.upnp.UpnpIOParticipant;
@@ -117,6 +121,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     private final UpnpIOService service;
     private final @Nullable String opmlUrl;
     private final SonosStateDescriptionOptionProvider stateDescriptionProvider;
+    private final SonosZoneTopologyTracker zoneTopologyTracker;
 
     private ZonePlayerConfiguration configuration = new ZonePlayerConfiguration();
 
@@ -128,7 +133,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     private final Object stateLock = new Object();
     private final Object jobLock = new Object();
 
-    private final Map<String, String> stateMap = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, String> stateMap = new ConcurrentHashMap<>();
 
     private @Nullable ScheduledFuture<?> pollingJob;
     private @Nullable SonosZonePlayerState savedState;
@@ -139,6 +144,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
      * Thing handler instance of the coordinator speaker used for control delegation
      */
     private @Nullable ZonePlayerHandler coordinatorHandler;
+    // the topology the coordinator and the group channels have been updated for
+    private volatile @Nullable SonosZoneTopology appliedTopology;
 
     private @Nullable List<SonosMusicService> musicServices;
 
@@ -149,13 +156,15 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     public ZonePlayerHandler(ThingRegistry thingRegistry, Thing thing, UpnpIOService upnpIOService,
-            @Nullable String opmlUrl, SonosStateDescriptionOptionProvider stateDescriptionProvider) {
+            @Nullable String opmlUrl, SonosStateDescriptionOptionProvider stateDescriptionProvider,
+            SonosZoneTopologyTracker zoneTopologyTracker) {
         super(thing);
         this.localThingRegistry = thingRegistry;
         this.opmlUrl = opmlUrl;
         logger.debug("Creating a ZonePlayerHandler for thing '{}'", getThing().getUID());
         this.service = upnpIOService;
         this.stateDescriptionProvider = stateDescriptionProvider;
+        this.zoneTopologyTracker = zoneTopologyTracker;
     }
 
     @Override
@@ -396,202 +405,270 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
             logger.trace("Received pair '{}':'{}' (service '{}') for thing '{}'",
                     new Object[] { variable, value, service, this.getThing().getUID() });
 
-            String oldValue = this.stateMap.get(variable);
-            if (shouldIgnoreVariableUpdate(variable, value, oldValue)) {
+            if (!updateStateMap(variable, value)) {
                 return;
             }
 
-            this.stateMap.put(variable, value);
-
             // pre-process some variables, eg XML processing
             if (service.equals("AVTransport") && variable.equals("LastChange")) {
-                Map<String, String> parsedValues = SonosXMLParser.getAVTransportFromXML(value);
-                for (String parsedValue : parsedValues.keySet()) {
-                    // Update the transport state after the update of the media information
-                    // to not break the notification mechanism
-                    if (!parsedValue.equals("TransportState")) {
-                        onValueReceived(parsedValue, parsedValues.get(parsedValue), "AVTransport");
-                    }
-                    // Translate AVTransportURI/AVTransportURIMetaData to CurrentURI/CurrentURIMetaData
-                    // for a compatibility with the result of the action GetMediaInfo
-                    if (parsedValue.equals("AVTransportURI")) {
-                        onValueReceived("CurrentURI", parsedValues.get(parsedValue), service);
-                    } else if (parsedValue.equals("AVTransportURIMetaData")) {
-                        onValueReceived("CurrentURIMetaData", parsedValues.get(parsedValue), service);
-                    }
-                }
-                updateMediaInformation();
-                if (parsedValues.get("TransportState") != null) {
-                    onValueReceived("TransportState", parsedValues.get("TransportState"), "AVTransport");
-                }
+                onAVTransportLastChange(value);
             }
 
             if (service.equals("RenderingControl") && variable.equals("LastChange")) {
-                Map<String, String> parsedValues = SonosXMLParser.getRenderingControlFromXML(value);
-                for (String parsedValue : parsedValues.keySet()) {
-                    onValueReceived(parsedValue, parsedValues.get(parsedValue), "RenderingControl");
-                }
+                onValuesReceived(SonosXMLParser.getRenderingControlFromXML(value), "RenderingControl");
             }
 
-            List<StateOption> options = new ArrayList<>();
+            onVariableChanged(variable, value, service);
+        }
+    }
 
-            // update the appropriate channel
-            switch (variable) {
-                case "TransportState":
-                    updateChannel(STATE);
-                    updateChannel(CONTROL);
-                    updateChannel(STOP);
-                    dispatchOnAllGroupMembers(variable, value, service);
-                    break;
-                case "CurrentPlayMode":
-                    updateChannel(SHUFFLE);
-                    updateChannel(REPEAT);
-                    dispatchOnAllGroupMembers(variable, value, service);
-                    break;
-                case "CurrentLEDState":
-                    updateChannel(LED);
-                    break;
-                case "ZoneName":
-                    updateState(ZONENAME, new StringType(value));
-                    break;
-                case "CurrentZoneName":
-                    updateChannel(ZONENAME);
-                    break;
-                case "ZoneGroupState":
-                    updateChannel(COORDINATOR);
-                    // Update coordinator after a change is made to the grouping of Sonos players
-                    updateGroupCoordinator();
-                    updateMediaInformation();
-                    // Update state and control channels for the group members with the coordinator values
-                    String transportState = getTransportState();
-                    if (transportState != null) {
-                        dispatchOnAllGroupMembers("TransportState", transportState, "AVTransport");
-                    }
-                    // Update shuffle and repeat channels for the group members with the coordinator values
-                    String playMode = getPlayMode();
-                    if (playMode != null) {
-                        dispatchOnAllGroupMembers("CurrentPlayMode", playMode, "AVTransport");
-                    }
-                    break;
-                case "LocalGroupUUID":
-                    updateChannel(ZONEGROUPID);
-                    break;
-                case "GroupCoordinatorIsLocal":
-                    updateChannel(LOCALCOORDINATOR);
-                    break;
-                case "VolumeMaster":
-                    updateChannel(VOLUME);
-                    break;
-                case "MuteMaster":
-                    updateChannel(MUTE);
-                    break;
-                case "NightMode":
-                    updateChannel(NIGHTMODE);
-                    break;
-                case "DialogLevel":
-                    updateChannel(SPEECHENHANCEMENT);
-                    break;
-                case LINEINCONNECTED:
-                    if (SonosBindingConstants.WITH_LINEIN_THING_TYPES_UIDS.contains(getThing().getThingTypeUID())) {
-                        updateChannel(LINEIN);
-                    }
-                    if (SonosBindingConstants.WITH_ANALOG_LINEIN_THING_TYPES_UIDS
-                            .contains(getThing().getThingTypeUID())) {
-                        updateChannel(ANALOGLINEIN);
-                    }
-                    break;
-                case TOSLINEINCONNECTED:
-                    if (SonosBindingConstants.WITH_LINEIN_THING_TYPES_UIDS.contains(getThing().getThingTypeUID())) {
-                        updateChannel(LINEIN);
-                    }
-                    if (SonosBindingConstants.WITH_DIGITAL_LINEIN_THING_TYPES_UIDS
-                            .contains(getThing().getThingTypeUID())) {
-                        updateChannel(DIGITALLINEIN);
-                    }
-                    break;
-                case "AlarmRunning":
-                    updateChannel(ALARMRUNNING);
-                    updateRunningAlarmProperties();
-                    break;
-                case "RunningAlarmProperties":
-                    updateChannel(ALARMPROPERTIES);
-                    break;
-                case "CurrentURIFormatted":
-                    updateChannel(CURRENTTRACK);
-                    break;
-                case "CurrentTitle":
-                    updateChannel(CURRENTTITLE);
-                    break;
-                case "CurrentArtist":
-                    updateChannel(CURRENTARTIST);
-                    break;
-                case "CurrentAlbum":
-                    updateChannel(CURRENTALBUM);
-                    break;
-                case "CurrentURI":
-                    updateChannel(CURRENTTRANSPORTURI);
-                    break;
-                case "CurrentTrackURI":
-                    updateChannel(CURRENTTRACKURI);
-                    break;
-                case "CurrentAlbumArtURI":
-                    updateChannel(CURRENTALBUMARTURL);
-                    break;
-                case "CurrentSleepTimerGeneration":
-                    if (value.equals("0")) {
-                        updateState(SLEEPTIMER, new DecimalType(0));
-                    }
-                    break;
-                case "SleepTimerGeneration":
-                    if (value.equals("0")) {
-                        updateState(SLEEPTIMER, new DecimalType(0));
-                    } else {
-                        updateSleepTimerDuration();
-                    }
-                    break;
-                case "RemainingSleepTimerDuration":
-                    updateState(SLEEPTIMER, new DecimalType(sleepStrTimeToSeconds(value)));
-                    break;
-                case "CurrentTuneInStationId":
-                    updateChannel(TUNEINSTATIONID);
-                    break;
-                case "SavedQueuesUpdateID": // service ContentDirectoy
-                    for (SonosEntry entry : getPlayLists()) {
-                        options.add(new StateOption(entry.getTitle(), entry.getTitle()));
-                    }
-                    stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), PLAYLIST), options);
-                    break;
-                case "FavoritesUpdateID": // service ContentDirectoy
-                    for (SonosEntry entry : getFavorites()) {
+    private void onAVTransportLastChange(String lastChange) {
+        Map<String, String> parsedValues = SonosXMLParser.getAVTransportFromXML(lastChange);
+        Map<String, String> changes = new LinkedHashMap<>();
+        for (Map.Entry<String, String> parsedValue : parsedValues.entrySet()) {
+            // Update the transport state after the update of the media information
+            // to not break the notification mechanism
+            if (!parsedValue.getKey().equals("TransportState")) {
+                changes.put(parsedValue.getKey(), parsedValue.getValue());
+            }
+            // Translate AVTransportURI/AVTransportURIMetaData to CurrentURI/CurrentURIMetaData
+            // for a compatibility with the result of the action GetMediaInfo
+            if (parsedValue.getKey().equals("AVTransportURI")) {
+                changes.put("CurrentURI", parsedValue.getValue());
+            } else if (parsedValue.getKey().equals("AVTransportURIMetaData")) {
+                changes.put("CurrentURIMetaData", parsedValue.getValue());
+            }
+        }
+        onValuesReceived(changes, "AVTransport");
+        updateMediaInformation();
+        String transportState = parsedValues.get("TransportState");
+        if (transportState != null) {
+            onValuesReceived(Collections.singletonMap("TransportState", transportState), "AVTransport");
+        }
+    }
+
+    /**
+     * Handles the variables of one event as a batch. All of them are stored before the channels of the changed ones
+     * are updated, so the channels see the complete new state.
+     */
+    private void onValuesReceived(Map<String, String> values, String service) {
+        List<String> changed = new ArrayList<>(values.size());
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (updateStateMap(entry.getKey(), entry.getValue())) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String variable : changed) {
+            String value = values.get(variable);
+            if (value != null) {
+                onVariableChanged(variable, value, service);
+            }
+        }
+    }
+
+    /**
+     * Stores the new value of a variable.
+     *
+     * @return false if the update of the variable can be ignored
+     */
+    private boolean updateStateMap(String variable, String value) {
+        String oldValue = stateMap.put(variable, value);
+        return !shouldIgnoreVariableUpdate(variable, value, oldValue);
+    }
+
+    private void onVariableChanged(String variable, String value, String service) {
+        List<StateOption> options = new ArrayList<>();
+
+        // update the appropriate channel
+        switch (variable) {
+            case "TransportState":
+                updateChannel(STATE);
+                updateChannel(CONTROL);
+                updateChannel(STOP);
+                dispatchOnAllGroupMembers(variable, value, service);
+                break;
+            case "CurrentPlayMode":
+                updateChannel(SHUFFLE);
+                updateChannel(REPEAT);
+                dispatchOnAllGroupMembers(variable, value, service);
+                break;
+            case "CurrentLEDState":
+                updateChannel(LED);
+                break;
+            case "ZoneName":
+                updateState(ZONENAME, new StringType(value));
+                break;
+            case "CurrentZoneName":
+                updateChannel(ZONENAME);
+                break;
+            case "ZoneGroupState":
+                onZoneGroupStateReceived(value);
+                break;
+            case "LocalGroupUUID":
+                updateChannel(ZONEGROUPID);
+                break;
+            case "GroupCoordinatorIsLocal":
+                updateChannel(LOCALCOORDINATOR);
+                break;
+            case "VolumeMaster":
+                updateChannel(VOLUME);
+                break;
+            case "MuteMaster":
+                updateChannel(MUTE);
+                break;
+            case "NightMode":
+                updateChannel(NIGHTMODE);
+                break;
+            case "DialogLevel":
+                updateChannel(SPEECHENHANCEMENT);
+                break;
+            case LINEINCONNECTED:
+                if (SonosBindingConstants.WITH_LINEIN_THING_TYPES_UIDS.contains(getThing().getThingTypeUID())) {
+                    updateChannel(LINEIN);
+                }
+                if (SonosBindingConstants.WITH_ANALOG_LINEIN_THING_TYPES_UIDS
+                        .contains(getThing().getThingTypeUID())) {
+                    updateChannel(ANALOGLINEIN);
+                }
+                break;
+            case TOSLINEINCONNECTED:
+                if (SonosBindingConstants.WITH_LINEIN_THING_TYPES_UIDS.contains(getThing().getThingTypeUID())) {
+                    updateChannel(LINEIN);
+                }
+                if (SonosBindingConstants.WITH_DIGITAL_LINEIN_THING_TYPES_UIDS
+                        .contains(getThing().getThingTypeUID())) {
+                    updateChannel(DIGITALLINEIN);
+                }
+                break;
+            case "AlarmRunning":
+                updateChannel(ALARMRUNNING);
+                updateRunningAlarmProperties();
+                break;
+            case "RunningAlarmProperties":
+                updateChannel(ALARMPROPERTIES);
+                break;
+            case "CurrentURIFormatted":
+                updateChannel(CURRENTTRACK);
+                break;
+            case "CurrentTitle":
+                updateChannel(CURRENTTITLE);
+                break;
+            case "CurrentArtist":
+                updateChannel(CURRENTARTIST);
+                break;
+            case "CurrentAlbum":
+                updateChannel(CURRENTALBUM);
+                break;
+            case "CurrentURI":
+                updateChannel(CURRENTTRANSPORTURI);
+                break;
+            case "CurrentTrackURI":
+                updateChannel(CURRENTTRACKURI);
+                break;
+            case "CurrentAlbumArtURI":
+                updateChannel(CURRENTALBUMARTURL);
+                break;
+            case "CurrentSleepTimerGeneration":
+                if (value.equals("0")) {
+                    updateState(SLEEPTIMER, new DecimalType(0));
+                }
+                break;
+            case "SleepTimerGeneration":
+                if (value.equals("0")) {
+                    updateState(SLEEPTIMER, new DecimalType(0));
+                } else {
+                    updateSleepTimerDuration();
+                }
+                break;
+            case "RemainingSleepTimerDuration":
+                updateState(SLEEPTIMER, new DecimalType(sleepStrTimeToSeconds(value)));
+                break;
+            case "CurrentTuneInStationId":
+                updateChannel(TUNEINSTATIONID);
+                break;
+            case "SavedQueuesUpdateID": // service ContentDirectoy
+                for (SonosEntry entry : getPlayLists()) {
+                    options.add(new StateOption(entry.getTitle(), entry.getTitle()));
+                }
+                stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), PLAYLIST), options);
+                break;
+            case "FavoritesUpdateID": // service ContentDirectoy
+                for (SonosEntry entry : getFavorites()) {
+                    options.add(new StateOption(entry.getTitle(), entry.getTitle()));
+                }
+                stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), FAVORITE), options);
+                break;
+            // For favorite radios, we should have checked the state variable named RadioFavoritesUpdateID
+            // Due to a bug in the data type definition of this state variable, it is not set.
+            // As a workaround, we check the state variable named ContainerUpdateIDs.
+            case "ContainerUpdateIDs": // service ContentDirectoy
+                if (value.startsWith("R:0,") || stateDescriptionProvider
+                        .getStateOptions(new ChannelUID(getThing().getUID(), RADIO)) == null) {
+                    for (SonosEntry entry : getFavoriteRadios()) {
                         options.add(new StateOption(entry.getTitle(), entry.getTitle()));
                     }
-                    stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), FAVORITE), options);
-                    break;
-                // For favorite radios, we should have checked the state variable named RadioFavoritesUpdateID
-                // Due to a bug in the data type definition of this state variable, it is not set.
-                // As a workaround, we check the state variable named ContainerUpdateIDs.
-                case "ContainerUpdateIDs": // service ContentDirectoy
-                    if (value.startsWith("R:0,") || stateDescriptionProvider
-                            .getStateOptions(new ChannelUID(getThing().getUID(), RADIO)) == null) {
-                        for (SonosEntry entry : getFavoriteRadios()) {
-                            options.add(new StateOption(entry.getTitle(), entry.getTitle()));
-                        }
-                        stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), RADIO), options);
-                    }
-                    break;
-                default:
-                    break;
+                    stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), RADIO), options);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Updates the shared topology with the ZoneGroupState. All players of a household send the same ZoneGroupState,
+     * so the topology is parsed once and only the players whose group has changed are updated.
+     */
+    private void onZoneGroupStateReceived(String zoneGroupState) {
+        for (String member : zoneTopologyTracker.update(getUDN(), zoneGroupState)) {
+            if (member.equals(getUDN())) {
+                continue;
+            }
+            try {
+                ZonePlayerHandler memberHandler = getHandlerByName(member);
+                if (ThingStatus.ONLINE.equals(memberHandler.getThing().getStatus())) {
+                    memberHandler.onZoneGroupChanged();
+                }
+            } catch (IllegalStateException e) {
+                logger.debug("Cannot update the group of player ({})", e.getMessage());
             }
         }
+        // a player which was offline or has just been created hasn't seen the changes before
+        if (zoneTopologyTracker.getTopology(getUDN()).isChangedFor(getUDN(), appliedTopology)) {
+            onZoneGroupChanged();
+        }
     }
 
+    private void onZoneGroupChanged() {
+        appliedTopology = zoneTopologyTracker.getTopology(getUDN());
+        updateChannel(COORDINATOR);
+        // Update coordinator after a change is made to the grouping of Sonos players
+        updateGroupCoordinator();
+        updateMediaInformation();
+        // Update state and control channels for the group members with the coordinator values
+        String transportState = getTransportState();
+        if (transportState != null) {
+            dispatchOnAllGroupMembers("TransportState", transportState, "AVTransport");
+        }
+        // Update shuffle and repeat channels for the group members with the coordinator values
+        String playMode = getPlayMode();
+        if (playMode != null) {
+            dispatchOnAllGroupMembers("CurrentPlayMode", playMode, "AVTransport");
+        }
+    }
+
+    /**
+     * Passes a value of the coordinator on to the other members of the group. The members store it and update their
+     * channels, they don't pass it on again as they are not the coordinator.
+     */
     private void dispatchOnAllGroupMembers(String variable, String value, String service) {
         if (isCoordinator()) {
+            Map<String, String> values = Collections.singletonMap(variable, value);
             for (String member : getOtherZoneGroupMembers()) {
                 try {
                     ZonePlayerHandler memberHandler = getHandlerByName(member);
                     if (ThingStatus.ONLINE.equals(memberHandler.getThing().getStatus())) {
-                        memberHandler.onValueReceived(variable, value, service);
+                        memberHandler.onValuesReceived(values, service);
                     }
                 } catch (IllegalStateException e) {
                     logger.debug("Cannot update channel for group member ({})", e.getMessage());
@@ -1007,12 +1084,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     public String getCoordinator() {
-        for (SonosZoneGroup zg : getZoneGroups()) {
-            if (zg.getMembers().contains(getUDN())) {
-                return zg.getCoordinator();
-            }
-        }
-        return getUDN();
+        SonosZoneGroup zoneGroup = zoneTopologyTracker.getTopology(getUDN()).getGroup(getUDN());
+        return zoneGroup != null ? zoneGroup.getCoordinator() : getUDN();
     }
 
     public boolean isCoordinator() {
@@ -1122,6 +1195,16 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                 ? currentTrack.getAlbumArtUri()
                 : "";
 
+        Map<String, String> mediaInformation = new LinkedHashMap<>();
+        mediaInformation.put("CurrentTuneInStationId", (stationID != null) ? stationID : "");
+        if (needsUpdating) {
+            mediaInformation.put("CurrentArtist", (artist != null) ? artist : "");
+            mediaInformation.put("CurrentAlbum", (album != null) ? album : "");
+            mediaInformation.put("CurrentTitle", (title != null) ? title : "");
+            mediaInformation.put("CurrentURIFormatted", (resultString != null) ? resultString : "");
+            mediaInformation.put("CurrentAlbumArtURI", albumArtURI);
+        }
+
         ZonePlayerHandler handlerForImageUpdate = null;
         for (String member : getZoneGroupMembers()) {
             try {
@@ -1131,16 +1214,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                             && hasValueChanged(albumArtURI, memberHandler.stateMap.get("CurrentAlbumArtURI"))) {
                         handlerForImageUpdate = memberHandler;
                     }
-                    memberHandler.onValueReceived("CurrentTuneInStationId", (stationID != null) ? stationID : "",
-                            "AVTransport");
-                    if (needsUpdating) {
-                        memberHandler.onValueReceived("CurrentArtist", (artist != null) ? artist : "", "AVTransport");
-                        memberHandler.onValueReceived("CurrentAlbum", (album != null) ? album : "", "AVTransport");
-                        memberHandler.onValueReceived("CurrentTitle", (title != null) ? title : "", "AVTransport");
-                        memberHandler.onValueReceived("CurrentURIFormatted", (resultString != null) ? resultString : "",
-                                "AVTransport");
-                        memberHandler.onValueReceived("CurrentAlbumArtURI", albumArtURI, "AVTransport");
-                    }
+                    memberHandler.onValuesReceived(mediaInformation, "AVTransport");
                 }
             } catch (IllegalStateException e) {
                 logger.debug("Cannot update media data for group member ({})", e.getMessage());
@@ -1632,8 +1706,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     private Collection<SonosZoneGroup> getZoneGroups() {
-        String zoneGroupState = stateMap.get("ZoneGroupState");
-        return zoneGroupState == null ? Collections.emptyList() : SonosXMLParser.getZoneGroupFromXML(zoneGroupState);
+        return zoneTopologyTracker.getTopology(getUDN()).getGroups();
     }
 
     /**
@@ -1643,13 +1716,11 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
      * @return {@link SonosZoneGroup}
      */
     private @Nullable SonosZoneGroup getCurrentZoneGroup() {
-        for (SonosZoneGroup zoneGroup : getZoneGroups()) {
-            if (zoneGroup.getMembers().contains(getUDN())) {
-                return zoneGroup;
-            }
+        SonosZoneGroup zoneGroup = zoneTopologyTracker.getTopology(getUDN()).getGroup(getUDN());
+        if (zoneGroup == null) {
+            logger.debug("Could not fetch Sonos group state information");
         }
-        logger.debug("Could not fetch Sonos group state information");
-        return null;
+        return zoneGroup;
     }
 
     /**
@@ -2019,13 +2090,11 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     protected List<String> getZoneGroupMembers() {
         List<String> result = new ArrayList<>();
 
-        Collection<SonosZoneGroup> zoneGroups = getZoneGroups();
-        if (!zoneGroups.isEmpty()) {
-            for (SonosZoneGroup zg : zoneGroups) {
-                if (zg.getMembers().contains(getUDN())) {
-                    result.addAll(zg.getMembers());
-                    break;
-                }
+        SonosZoneTopology topology = zoneTopologyTracker.getTopology(getUDN());
+        if (!topology.isEmpty()) {
+            SonosZoneGroup zoneGroup = topology.getGroup(getUDN());
+            if (zoneGroup != null) {
+                result.addAll(zoneGroup.getMembers());
             }
         } else {
             // If the group topology was not yet received, return at least the current Sonos zone
@@ -13,25 +13,43 @@
 package org.openhab.io.homekit.internal;
 
 import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.io.homekit.internal.accessories.HomekitAccessoryFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.hapjava.accessories.HomekitAccessory;
+import io.github.hapjava.characteristics.Characteristic;
 import io.github.hapjava.server.impl.HomekitRoot;
+import io.github.hapjava.services.Service;
 
 /**
  * Stores the created HomekitAccessories. GroupedAccessories are also held here
  * in a pre-created pending state until all required characteristics are found.
  *
+ * For every accessory the registry keeps the names of the items it was built from, so that a changed item only
+ * requires the accessories depending on it to be rebuilt, and a canonical description of its HAP-visible attributes, so
+ * that a rebuild which does not change the attribute database does not need a new configuration revision.
+ *
  * @author Andy Lintner - Initial contribution
  */
 class HomekitAccessoryRegistry {
     private @Nullable HomekitRoot bridge;
     private final Map<String, HomekitAccessory> createdAccessories = new HashMap<>();
+    private final Map<String, Set<String>> dependentAccessories = new HashMap<>();
+    private final Map<String, String> accessoryDescriptions = new HashMap<>();
     private int configurationRevision = 1;
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryRegistry.class);
 
@@ -59,6 +77,9 @@ class HomekitAccessoryRegistry {
     public synchronized void remove(String itemName) {
         if (createdAccessories.containsKey(itemName)) {
             HomekitAccessory accessory = createdAccessories.remove(itemName);
+            accessoryDescriptions.remove(itemName);
+            dependentAccessories.values().forEach(accessories -> accessories.remove(itemName));
+            dependentAccessories.values().removeIf(Set::isEmpty);
             logger.trace("Removed accessory {} for taggedItem {}", accessory, itemName);
             final HomekitRoot bridge = this.bridge;
             if (bridge != null) {
@@ -93,6 +114,10 @@ class HomekitAccessoryRegistry {
 
     public synchronized void addRootAccessory(String itemName, HomekitAccessory accessory) {
         createdAccessories.put(itemName, accessory);
+        accessoryDescriptions.put(itemName, describeAccessory(accessory));
+        for (String dependentItemName : HomekitAccessoryFactory.getDependentItemNames(accessory)) {
+            dependentAccessories.computeIfAbsent(dependentItemName, k -> new HashSet<>()).add(itemName);
+        }
         final HomekitRoot bridge = this.bridge;
         if (bridge != null) {
             bridge.addAccessory(accessory);
@@ -102,4 +127,94 @@ class HomekitAccessoryRegistry {
     public Map<String, HomekitAccessory> getAllAccessories() {
         return this.createdAccessories;
     }
+
+    /**
+     * Returns the names of the root accessories which have been built using the given item.
+     */
+    public synchronized Set<String> getDependentAccessories(String itemName) {
+        final Set<String> accessories = dependentAccessories.get(itemName);
+        return accessories == null ? Collections.emptySet() : new HashSet<>(accessories);
+    }
+
+    /**
+     * Returns the descriptions of the HAP-visible attributes of the given root accessories. Accessories which do not
+     * exist are not contained in the result.
+     */
+    public synchronized Map<String, String> getAccessoryDescriptions(Collection<String> itemNames) {
+        final Map<String, String> descriptions = new HashMap<>();
+        for (String itemName : itemNames) {
+            final String description = accessoryDescriptions.get(itemName);
+            if (description != null) {
+                descriptions.put(itemName, description);
+            }
+        }
+        return descriptions;
+    }
+
+    /**
+     * Describes everything a HomeKit controller sees of an accessory in the attribute database: id, name, services
+     * and the metadata of all characteristics, excluding their current values.
+     */
+    private String describeAccessory(HomekitAccessory accessory) {
+        final StringBuilder description = new StringBuilder();
+        description.append(accessory.getId()).append(' ').append(accessory.getName().getNow(null)).append('\n');
+        for (Service service : accessory.getServices()) {
+            description.append(service.getType()).append('\n');
+            for (Characteristic characteristic : service.getCharacteristics()) {
+                describeCharacteristic(characteristic, description);
+                description.append('\n');
+            }
+        }
+        return description.toString();
+    }
+
+    /**
+     * Describes a characteristic by its class and all of its plain data fields, e.g. type, format, permissions,
+     * bounds and valid values. The value suppliers and callbacks are skipped, so the description does not depend on
+     * the current value of the characteristic.
+     */
+    private void describeCharacteristic(Characteristic characteristic, StringBuilder description) {
+        description.append(characteristic.getClass().getName());
+        for (Class<?> type = characteristic.getClass(); type != Object.class; type = type.getSuperclass()) {
+            final Field[] fields = type.getDeclaredFields();
+            Arrays.sort(fields, Comparator.comparing(Field::getName));
+            for (Field field : fields) {
+                if (Modifier.isStatic(field.getModifiers()) || !isPlainData(field.getType())) {
+                    continue;
+                }
+                description.append(' ').append(type.getSimpleName()).append('.').append(field.getName()).append('=');
+                try {
+                    field.setAccessible(true);
+                    appendPlainData(field.get(characteristic), description);
+                } catch (IllegalAccessException | RuntimeException e) {
+                    logger.trace("Could not read {} of characteristic {}: {}", field.getName(),
+                            characteristic.getType(), e.getMessage());
+                    description.append('?');
+                }
+            }
+        }
+    }
+
+    private static boolean isPlainData(Class<?> type) {
+        if (type.isArray()) {
+            return isPlainData(type.getComponentType());
+        }
+        return type.isPrimitive() || type.isEnum() || type == String.class || type == Boolean.class
+                || type == Character.class || Number.class.isAssignableFrom(type);
+    }
+
+    private static void appendPlainData(@Nullable Object value, StringBuilder description) {
+        if (value != null && value.getClass().isArray()) {
+            description.append('[');
+            for (int i = 0; i < Array.getLength(value); i++) {
+                if (i > 0) {
+                    description.append(',');
+                }
+                appendPlainData(Array.get(value, i), description);
+            }
+            description.append(']');
+        } else {
+            description.append(value);
+        }
+    }
 }
@@ -12,10 +12,18 @@
  */
 package org.openhab.io.homekit.internal;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.StateChangeListener;
@@ -31,11 +39,27 @@ import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
  * HomeKit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * Item changes are not forwarded to the HomeKit library immediately. All changes within a short window are collected
+ * and then notified together, only once per characteristic. A scene changing many lights at once thus results in one
+ * burst of notifications carrying the latest values instead of one notification per intermediate state.
+ *
  * @author Andy Lintner - Initial contribution
  */
 public class HomekitAccessoryUpdater {
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
+    static final int NOTIFICATION_DELAY = 100; // in ms
     private final ConcurrentMap<ItemKey, Subscription> subscriptionsByName = new ConcurrentHashMap<>();
+    private final Map<ItemKey, HomekitCharacteristicChangeCallback> pendingNotifications = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> notificationJob;
+
+    public HomekitAccessoryUpdater() {
+        this(ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON));
+    }
+
+    HomekitAccessoryUpdater(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -57,7 +81,7 @@ public class HomekitAccessoryUpdater {
                 unsubscribe(item, key);
             }
             logger.trace("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            Subscription subscription = (changedItem, oldState, newState) -> queueNotification(itemKey, callback);
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -71,13 +95,58 @@ public class HomekitAccessoryUpdater {
         if (item == null) {
             return;
         }
-        subscriptionsByName.computeIfPresent(new ItemKey(item, key), (k, v) -> {
+        ItemKey itemKey = new ItemKey(item, key);
+        synchronized (pendingNotifications) {
+            pendingNotifications.remove(itemKey);
+        }
+        subscriptionsByName.computeIfPresent(itemKey, (k, v) -> {
             logger.trace("Removing existing subscription for {} / {}", item, key);
             item.removeStateChangeListener(v);
             return null;
         });
     }
 
+    /**
+     * Drops the pending notifications, for example because the accessories have been removed from the bridge.
+     * Changes received afterwards are notified again.
+     */
+    public void stop() {
+        synchronized (pendingNotifications) {
+            if (notificationJob != null) {
+                notificationJob.cancel(false);
+                notificationJob = null;
+            }
+            pendingNotifications.clear();
+        }
+    }
+
+    private void queueNotification(ItemKey itemKey, HomekitCharacteristicChangeCallback callback) {
+        synchronized (pendingNotifications) {
+            // the callback reads the current value when it is called, so one pending entry per characteristic is enough
+            pendingNotifications.put(itemKey, callback);
+            if (notificationJob == null || notificationJob.isDone()) {
+                notificationJob = scheduler.schedule(this::sendNotifications, NOTIFICATION_DELAY,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void sendNotifications() {
+        final List<HomekitCharacteristicChangeCallback> callbacks;
+        synchronized (pendingNotifications) {
+            callbacks = new ArrayList<>(pendingNotifications.values());
+            pendingNotifications.clear();
+            logger.trace("Sending {} coalesced characteristic notifications", callbacks.size());
+        }
+        for (HomekitCharacteristicChangeCallback callback : callbacks) {
+            try {
+                callback.changed();
+            } catch (RuntimeException e) {
+                logger.debug("Failed to notify characteristic change", e);
+            }
+        }
+    }
+
     @FunctionalInterface
     @NonNullByDefault
     private interface Subscription extends StateChangeListener {
@@ -22,6 +22,7 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.common.ThreadPoolManager;
@@ -201,15 +202,44 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     private synchronized void applyUpdates() {
         logger.trace("apply updates");
+        if (pendingUpdates.isEmpty()) {
+            return;
+        }
+        final long start = System.nanoTime();
+        // only the root accessories built from one of the changed items need to be rebuilt
+        final Set<String> affectedAccessories = new HashSet<>(pendingUpdates);
         for (final String name : pendingUpdates) {
+            affectedAccessories.addAll(accessoryRegistry.getDependentAccessories(name));
+        }
+        pendingUpdates.clear();
+        final Map<String, String> oldDescriptions = accessoryRegistry.getAccessoryDescriptions(affectedAccessories);
+        final long collected = System.nanoTime();
+
+        for (final String name : affectedAccessories) {
             accessoryRegistry.remove(name);
             logger.trace(" add items {}", name);
             getItemOptional(name).ifPresent(this::createRootAccessories);
         }
-        if (!pendingUpdates.isEmpty()) {
+        final long rebuilt = System.nanoTime();
+
+        final boolean changed = !oldDescriptions
+                .equals(accessoryRegistry.getAccessoryDescriptions(affectedAccessories));
+        final long compared = System.nanoTime();
+        if (changed) {
             makeNewConfigurationRevision();
-            pendingUpdates.clear();
+        } else {
+            logger.debug("Attribute database unchanged, keeping configuration revision {}",
+                    accessoryRegistry.getConfigurationRevision());
         }
+        final long end = System.nanoTime();
+        logger.debug(
+                "Applied updates to {} accessories in {} ms (collect {} ms, rebuild {} ms, compare {} ms, revision {} ms)",
+                affectedAccessories.size(), toMillis(end - start), toMillis(collected - start),
+                toMillis(rebuilt - collected), toMillis(compared - rebuilt), toMillis(end - compared));
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
     }
 
     @Override
@@ -233,6 +263,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     public synchronized void unsetBridge() {
         applyUpdatesDebouncer.stop();
         accessoryRegistry.unsetBridge();
+        updater.stop();
     }
 
     public void setUpdater(HomekitAccessoryUpdater updater) {
@@ -246,6 +277,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     public void stop() {
         this.itemRegistry.removeRegistryChangeListener(this);
         this.metadataRegistry.removeRegistryChangeListener(metadataChangeListener);
+        updater.stop();
     }
 
     public Map<String, HomekitAccessory> getAccessories() {
@@ -113,6 +113,13 @@ abstract class AbstractHomekitAccessoryImpl implements HomekitAccessory {
         return accessory;
     }
 
+    /**
+     * return all tagged items backing the characteristics of this accessory.
+     */
+    public List<HomekitTaggedItem> getCharacteristics() {
+        return characteristics;
+    }
+
     public Collection<Service> getServices() {
         return this.services;
     }
@@ -169,6 +169,23 @@ public class HomekitAccessoryFactory {
         }
     }
 
+    /**
+     * return the names of all OH items the given accessory was built from, i.e. the root item and the items of all
+     * mandatory and optional characteristics. A change to any of these items requires the accessory to be rebuilt.
+     *
+     * @param accessory HomeKit accessory
+     * @return set of item names
+     */
+    public static Set<String> getDependentItemNames(HomekitAccessory accessory) {
+        final Set<String> itemNames = new HashSet<>();
+        if (accessory instanceof AbstractHomekitAccessoryImpl) {
+            final AbstractHomekitAccessoryImpl accessoryImpl = (AbstractHomekitAccessoryImpl) accessory;
+            itemNames.add(accessoryImpl.getRootAccessory().getName());
+            accessoryImpl.getCharacteristics().forEach(c -> itemNames.add(c.getName()));
+        }
+        return itemNames;
+    }
+
     /**
      * return HomeKit accessory types for a OH item based on meta data
      * 
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.StateChangeListener;
+import org.openhab.core.library.types.OnOffType;
+
+import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
+
+/**
+ * Tests {@link HomekitAccessoryUpdater}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class HomekitAccessoryUpdaterTest {
+
+    private @Mock @NonNullByDefault({}) GenericItem item;
+    private @Mock @NonNullByDefault({}) HomekitCharacteristicChangeCallback callback;
+
+    private final ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+    private final HomekitAccessoryUpdater updater = new HomekitAccessoryUpdater(scheduler);
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private StateChangeListener subscribe() {
+        updater.subscribe(item, callback);
+        ArgumentCaptor<StateChangeListener> listener = ArgumentCaptor.forClass(StateChangeListener.class);
+        verify(item).addStateChangeListener(listener.capture());
+        return listener.getValue();
+    }
+
+    @Test
+    public void testChangesWithinDelayAreNotifiedOnce() throws InterruptedException {
+        StateChangeListener listener = subscribe();
+
+        listener.stateChanged(item, OnOffType.OFF, OnOffType.ON);
+        listener.stateChanged(item, OnOffType.ON, OnOffType.OFF);
+        listener.stateChanged(item, OnOffType.OFF, OnOffType.ON);
+
+        verify(callback, timeout(1000)).changed();
+        Thread.sleep(HomekitAccessoryUpdater.NOTIFICATION_DELAY * 3);
+        verify(callback, times(1)).changed();
+    }
+
+    @Test
+    public void testStopDropsPendingNotifications() throws InterruptedException {
+        StateChangeListener listener = subscribe();
+
+        listener.stateChanged(item, OnOffType.OFF, OnOffType.ON);
+        updater.stop();
+
+        Thread.sleep(HomekitAccessoryUpdater.NOTIFICATION_DELAY * 3);
+        verify(callback, never()).changed();
+    }
+}
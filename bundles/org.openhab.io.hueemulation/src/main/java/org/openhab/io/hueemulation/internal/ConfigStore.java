@@ -99,6 +99,11 @@ public class ConfigStore {
             .registerTypeAdapter(HueSuccessResponseStateChanged.class, new HueSuccessResponseStateChanged.Serializer())
             .registerTypeAdapter(HueGroupEntry.class, new HueGroupEntry.Serializer(this)).create();
 
+    /**
+     * The serialized lights, to be used for answering light listings
+     */
+    public final LightsJsonSnapshot lightsSnapshot = new LightsJsonSnapshot(gson);
+
     @Reference
     protected @NonNullByDefault({}) ConfigurationAdmin configAdmin;
 
@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
+import org.openhab.io.hueemulation.internal.dto.HueLightEntry;
+import org.openhab.io.hueemulation.internal.dto.changerequest.HueStateChange;
+
+import com.google.gson.Gson;
+
+/**
+ * Keeps the serialized JSON of all hue lights, so that the light listing, which is polled constantly by hue
+ * clients like Alexa or Harmony hubs, does not need to be serialized on every request.
+ * <p>
+ * Each light is serialized on its own and only serialized again if anything its JSON depends on (the item, its state
+ * and label, the last command and hue state change) has changed. The full listing is only assembled again if at
+ * least one light changed, and is returned together with its ETag as an immutable {@link Listing}, to answer unchanged
+ * polls with "304 Not Modified".
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LightsJsonSnapshot {
+    private final Gson gson;
+    private final Map<String, Fragment> fragments = new HashMap<>();
+    private Listing listing = new Listing("{}");
+    private boolean valid = false;
+
+    /**
+     * The JSON of all lights together with its entity tag.
+     */
+    public static final class Listing {
+        private final String json;
+        private final String etag;
+
+        private Listing(String json) {
+            this.json = json;
+            this.etag = etagOf(json);
+        }
+
+        /**
+         * @return The JSON object of all lights
+         */
+        public String getJson() {
+            return json;
+        }
+
+        /**
+         * @return The entity tag value of the JSON, without quotes
+         */
+        public String getETag() {
+            return etag;
+        }
+    }
+
+    /**
+     * The serialized JSON of a single light, together with the input it has been created from.
+     */
+    private static class Fragment {
+        final HueLightEntry entry;
+        final GenericItem item;
+        final State state;
+        final @Nullable String label;
+        final String name;
+        final @Nullable Command lastCommand;
+        final @Nullable HueStateChange lastHueChange;
+        final String json;
+
+        Fragment(HueLightEntry entry, State state, String json) {
+            this.entry = entry;
+            this.item = entry.item;
+            this.state = state;
+            this.label = entry.item.getLabel();
+            this.name = entry.name;
+            this.lastCommand = entry.lastCommand;
+            this.lastHueChange = entry.lastHueChange;
+            this.json = json;
+        }
+
+        boolean isUpToDate(HueLightEntry entry) {
+            return this.entry == entry && item == entry.item && state.equals(entry.item.getState())
+                    && Objects.equals(label, entry.item.getLabel()) && name.equals(entry.name)
+                    && lastCommand == entry.lastCommand && lastHueChange == entry.lastHueChange;
+        }
+    }
+
+    public LightsJsonSnapshot(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Returns the JSON of all given lights and its ETag. Only lights that changed since the last call are serialized
+     * again.
+     *
+     * @param lights All lights, keyed by hue ID
+     * @return The listing of all lights
+     */
+    public synchronized Listing getListing(Map<String, HueLightEntry> lights) {
+        update(lights);
+        return listing;
+    }
+
+    /**
+     * Returns the JSON of a single light.
+     *
+     * @param hueID The hue ID of the light
+     * @param entry The light
+     * @return The JSON object of the light
+     */
+    public synchronized String getJson(String hueID, HueLightEntry entry) {
+        Fragment fragment = fragments.get(hueID);
+        if (fragment == null || !fragment.isUpToDate(entry)) {
+            fragment = serialize(entry);
+            fragments.put(hueID, fragment);
+            valid = false;
+        }
+        return fragment.json;
+    }
+
+    private void update(Map<String, HueLightEntry> lights) {
+        boolean changed = !valid || fragments.size() != lights.size();
+        for (Map.Entry<String, HueLightEntry> light : lights.entrySet()) {
+            Fragment fragment = fragments.get(light.getKey());
+            if (fragment == null || !fragment.isUpToDate(light.getValue())) {
+                fragments.put(light.getKey(), serialize(light.getValue()));
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return;
+        }
+        fragments.keySet().retainAll(lights.keySet());
+
+        StringBuilder builder = new StringBuilder(2 + lights.size() * 512).append('{');
+        for (Map.Entry<String, HueLightEntry> light : lights.entrySet()) {
+            Fragment fragment = fragments.get(light.getKey());
+            if (fragment == null) {
+                continue;
+            }
+            if (builder.length() > 1) {
+                builder.append(',');
+            }
+            builder.append(gson.toJson(light.getKey())).append(':').append(fragment.json);
+        }
+        listing = new Listing(builder.append('}').toString());
+        valid = true;
+    }
+
+    private Fragment serialize(HueLightEntry entry) {
+        // The state is taken before serializing, a concurrent state change will then cause another serialization
+        State state = entry.item.getState();
+        return new Fragment(entry, state, gson.toJson(entry));
+    }
+
+    /**
+     * Returns an entity tag value for the given JSON, the SHA-256 digest of it.
+     */
+    public static String etagOf(String json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
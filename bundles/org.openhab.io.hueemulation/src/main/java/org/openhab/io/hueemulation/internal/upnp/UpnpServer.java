@@ -24,7 +24,6 @@ import java.net.Inet6Address;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
-import java.net.SocketAddress;
 import java.net.StandardProtocolFamily;
 import java.net.StandardSocketOptions;
 import java.net.UnknownHostException;
@@ -36,12 +35,15 @@ import java.nio.channels.Selector;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -84,14 +86,6 @@ import org.slf4j.LoggerFactory;
                 EventConstants.EVENT_TOPIC + "=" + ConfigStore.EVENT_ADDRESS_CHANGED }, //
         service = { UpnpServer.class, EventHandler.class })
 public class UpnpServer extends HttpServlet implements Consumer<HueEmulationConfigWithRuntime>, EventHandler {
-    /**
-     * Used by async IO. This is our context object class.
-     */
-    static class ClientRecord {
-        public @Nullable SocketAddress clientAddress;
-        public ByteBuffer buffer = ByteBuffer.allocate(1000);
-    }
-
     public static final String DISCOVERY_FILE = "/description.xml";
 
     // jUPNP shares port 1900, but since this is multicast, we can also bind to it
@@ -100,14 +94,31 @@ public class UpnpServer extends HttpServlet implements Consumer<HueEmulationConf
      * Send a keep alive every 2 minutes
      */
     private static final int CACHE_MSECS = 120 * 1000;
+    /**
+     * Repeated searches of a client for the same search target within this time are not answered again
+     */
+    private static final int SEARCH_RATE_LIMIT_MSECS = 1000;
+    private static final byte[] M_SEARCH = "M-SEARCH".getBytes(StandardCharsets.US_ASCII);
 
     private final Logger logger = LoggerFactory.getLogger(UpnpServer.class);
 
     public final InetAddress MULTI_ADDR_IPV4;
     public final InetAddress MULTI_ADDR_IPV6;
     private String[] stVersions = { "", "", "" };
+    private volatile String[] searchTargets = { "", "", "" };
+    private volatile ByteBuffer[] stReplies = {};
     private String notifyMsg = "";
 
+    /**
+     * Only accessed by the upnp thread, which processes one datagram at a time
+     */
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(1500);
+    private final Map<String, Long> lastAnsweredSearches = new HashMap<>();
+
+    private final AtomicLong receivedSearches = new AtomicLong();
+    private final AtomicLong answeredSearches = new AtomicLong();
+    private final AtomicLong droppedSearches = new AtomicLong();
+
     //// objects, set within activate()
     protected @NonNullByDefault({}) String xmlDoc;
     protected @NonNullByDefault({}) String xmlDocWithAddress;
@@ -224,6 +235,14 @@ public class UpnpServer extends HttpServlet implements Consumer<HueEmulationConf
                     cs.ds.config.apiversion, cs.ds.config.bridgeid, // version, bridgeid
                     stVersions[i], config.config.uuid);
         }
+        // Pre-render the replies, they are only sliced for sending
+        ByteBuffer[] stReplies = new ByteBuffer[stVersions.length];
+        for (int i = 0; i < stVersions.length; ++i) {
+            byte[] reply = this.stVersions[i].getBytes(StandardCharsets.UTF_8);
+            stReplies[i] = ByteBuffer.allocateDirect(reply.length).put(reply).flip().asReadOnlyBuffer();
+        }
+        this.searchTargets = stVersions;
+        this.stReplies = stReplies;
 
         this.notifyMsg = String.format(
                 "NOTIFY * HTTP/1.1\r\n" + "HOST: %s:%d\r\n" + "CACHE-CONTROL: max-age=%d\r\n" + "LOCATION: %s\r\n"
@@ -373,27 +392,80 @@ public class UpnpServer extends HttpServlet implements Consumer<HueEmulationConf
     private void handleRead(SelectionKey key) throws IOException {
         logger.trace("upnp thread handle received message");
         DatagramChannel channel = (DatagramChannel) key.channel();
-        ClientRecord clntRec = (ClientRecord) key.attachment();
-        clntRec.buffer.clear(); // Prepare buffer for receiving
-        clntRec.clientAddress = channel.receive(clntRec.buffer);
-        InetSocketAddress recAddress = (InetSocketAddress) clntRec.clientAddress;
+        receiveBuffer.clear(); // Prepare buffer for receiving
+        InetSocketAddress recAddress = (InetSocketAddress) channel.receive(receiveBuffer);
         if (recAddress == null) { // Did we receive something?
             return;
         }
-        String data = new String(clntRec.buffer.array(), StandardCharsets.UTF_8);
-        if (!data.startsWith("M-SEARCH")) {
+        receiveBuffer.flip();
+        if (!startsWith(receiveBuffer, M_SEARCH)) {
+            return;
+        }
+        receivedSearches.incrementAndGet();
+
+        String searchTarget = getSearchTarget(StandardCharsets.UTF_8.decode(receiveBuffer).toString());
+        long now = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        if (lastAnsweredSearches.size() > 256) {
+            lastAnsweredSearches.values().removeIf(time -> now - time >= SEARCH_RATE_LIMIT_MSECS);
+        }
+        String searchKey = recAddress + " " + searchTarget;
+        Long lastAnswered = lastAnsweredSearches.get(searchKey);
+        if (lastAnswered != null && now - lastAnswered < SEARCH_RATE_LIMIT_MSECS) {
+            logger.trace("Ignore repeated search for {} from {}", searchTarget, recAddress);
+            droppedSearches.incrementAndGet();
             return;
         }
+        lastAnsweredSearches.put(searchKey, now);
+
+        // Answer with the matching search target only, or with all of them for any other search
+        String[] searchTargets = this.searchTargets;
+        ByteBuffer[] stReplies = this.stReplies;
+        for (int i = 0; i < stReplies.length; ++i) {
+            if (searchTargets[i].equals(searchTarget)) {
+                stReplies = new ByteBuffer[] { stReplies[i] };
+                break;
+            }
+        }
+        for (ByteBuffer reply : stReplies) {
+            try {
+                logger.trace("Sending to {}", recAddress);
+                channel.send(reply.duplicate(), recAddress);
+            } catch (IOException e) {
+                logger.warn("Could not send UPNP response: {}", e.getMessage());
+            }
+        }
+        answeredSearches.incrementAndGet();
+    }
 
-        try (DatagramSocket sendSocket = new DatagramSocket()) {
-            sendUPNPDatagrams(sendSocket, recAddress.getAddress(), recAddress.getPort());
+    private static boolean startsWith(ByteBuffer buffer, byte[] prefix) {
+        if (buffer.remaining() < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; ++i) {
+            if (buffer.get(buffer.position() + i) != prefix[i]) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    /**
+     * Return the value of the ST header of a M-SEARCH request or an empty string.
+     */
+    private static String getSearchTarget(String request) {
+        for (String line : request.split("\r?\n")) {
+            if (line.regionMatches(true, 0, "ST:", 0, 3)) {
+                return line.substring(3).trim();
+            }
+        }
+        return "";
     }
 
     private void sendUPNPDatagrams(DatagramSocket sendSocket, InetAddress address, int port) {
         logger.trace("upnp thread send announcement");
         for (String msg : stVersions) {
-            DatagramPacket response = new DatagramPacket(msg.getBytes(), msg.length(), address, port);
+            byte[] data = msg.getBytes(StandardCharsets.UTF_8);
+            DatagramPacket response = new DatagramPacket(data, data.length, address, port);
             try {
                 logger.trace("Sending to {}:{}", address.getHostAddress(), port);
                 sendSocket.send(response);
@@ -449,14 +521,14 @@ public class UpnpServer extends HttpServlet implements Consumer<HueEmulationConf
 
             if (hasIPv4) {
                 channelV4.configureBlocking(false);
-                channelV4.register(selector, SelectionKey.OP_READ, new ClientRecord());
+                channelV4.register(selector, SelectionKey.OP_READ);
                 try (DatagramSocket sendSocket = new DatagramSocket(new InetSocketAddress(config.address, 0))) {
                     sendUPNPDatagrams(sendSocket, MULTI_ADDR_IPV4, UPNP_PORT);
                 }
             }
             if (hasIPv6) {
                 channelV6.configureBlocking(false);
-                channelV6.register(selector, SelectionKey.OP_READ, new ClientRecord());
+                channelV6.register(selector, SelectionKey.OP_READ);
                 try (DatagramSocket sendSocket = new DatagramSocket()) {
                     sendUPNPDatagrams(sendSocket, MULTI_ADDR_IPV6, UPNP_PORT);
                 }
@@ -528,6 +600,28 @@ public class UpnpServer extends HttpServlet implements Consumer<HueEmulationConf
         return config.port;
     }
 
+    /**
+     * Return the number of received M-SEARCH requests.
+     */
+    public long getReceivedSearches() {
+        return receivedSearches.get();
+    }
+
+    /**
+     * Return the number of answered M-SEARCH requests.
+     */
+    public long getAnsweredSearches() {
+        return answeredSearches.get();
+    }
+
+    /**
+     * Return the number of M-SEARCH requests that have not been answered, because the same request has been answered
+     * shortly before.
+     */
+    public long getDroppedSearches() {
+        return droppedSearches.get();
+    }
+
     public boolean upnpAnnouncementThreadRunning() {
         return config.asyncIOselector != null;
     }
@@ -13,19 +13,24 @@
 package org.openhab.io.imperihome.internal.handler;
 
 import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.math.MathContext;
 import java.net.URLDecoder;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceRegistry;
@@ -39,7 +44,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Device history request handler.
+ * Device history request handler. The history is downsampled to at most {@link #MAX_POINTS} averaged values, which
+ * are cached per device and only extended by the values stored since the previous request.
  *
  * @author Pepijn de Geus - Initial contribution
  */
@@ -47,10 +53,17 @@ public class DeviceHistoryHandler {
 
     private static final String CHARSET = "UTF-8";
 
+    /**
+     * Maximum number of values returned for a history request; more are not visible in the graphs of the app anyway.
+     */
+    private static final int MAX_POINTS = 500;
+    private static final long MIN_BUCKET_WIDTH = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(DeviceHistoryHandler.class);
 
     private final DeviceRegistry deviceRegistry;
     private final PersistenceServiceRegistry persistenceServiceRegistry;
+    private final Map<String, CachedHistory> historyCache = new ConcurrentHashMap<>();
 
     public DeviceHistoryHandler(DeviceRegistry deviceRegistry, PersistenceServiceRegistry persistenceServiceRegistry) {
         this.deviceRegistry = deviceRegistry;
@@ -92,34 +105,137 @@ public class DeviceHistoryHandler {
 
     private HistoryList serveHistory(AbstractDevice device, QueryablePersistenceService persistence, long start,
             long end) {
-        logger.info("Querying persistence for history of Item {}, from {} to {}", device.getItemName(), start, end);
+        long bucketWidth = getBucketWidth(start, end);
+        CachedHistory history = historyCache.compute(device.getId(),
+                (deviceId, cached) -> cached != null && cached.isUsableFor(device.getItemName(), bucketWidth, start)
+                        ? cached
+                        : new CachedHistory(device.getItemName(), bucketWidth));
+
+        synchronized (history) {
+            long queryEnd = Math.min(end, System.currentTimeMillis());
+            long queryStart = history.getResumeTime(start);
+            if (queryStart <= queryEnd) {
+                logger.info("Querying persistence for history of Item {}, from {} to {}", device.getItemName(),
+                        queryStart, queryEnd);
+                history.removeFrom(queryStart);
+                int count = query(history, persistence, queryStart, queryEnd);
+                history.queriedUntil = queryEnd;
+                logger.debug("Added {} persisted values to {} history buckets of {} ms", count,
+                        history.buckets.size(), bucketWidth);
+            }
+            history.removeBefore(start);
+            return history.toHistoryList(start, end);
+        }
+    }
 
-        FilterCriteria criteria = new FilterCriteria().setItemName(device.getItemName())
+    private int query(CachedHistory history, QueryablePersistenceService persistence, long start, long end) {
+        FilterCriteria criteria = new FilterCriteria().setItemName(history.itemName)
                 .setBeginDate(ZonedDateTime.ofInstant(Instant.ofEpochMilli(start), ZoneId.systemDefault()))
-                .setEndDate(ZonedDateTime.ofInstant(Instant.ofEpochMilli(end), ZoneId.systemDefault()));
-
-        List<HistoryItem> resultItems = new LinkedList<>();
-        Iterable<HistoricItem> historicItems = persistence.query(criteria);
+                .setEndDate(ZonedDateTime.ofInstant(Instant.ofEpochMilli(end), ZoneId.systemDefault()))
+                .setOrdering(Ordering.ASCENDING);
+
+        int count = 0;
+        boolean empty = true;
+        for (HistoricItem historicItem : persistence.query(criteria)) {
+            empty = false;
+            State state = historicItem.getState();
+            if (state instanceof DecimalType) {
+                history.add(historicItem.getTimestamp().toInstant().toEpochMilli(),
+                        ((DecimalType) state).toBigDecimal());
+                count++;
+            }
+        }
 
-        Iterator<HistoricItem> iterator = historicItems.iterator();
-        if (!iterator.hasNext()) {
+        if (empty) {
             logger.info("Persistence returned no results for history query");
-        } else {
-            while (iterator.hasNext()) {
-                HistoricItem historicItem = iterator.next();
-                State state = historicItem.getState();
-                if (state instanceof DecimalType) {
-                    Number value = ((DecimalType) state).toBigDecimal();
-                    resultItems.add(new HistoryItem(historicItem.getTimestamp().toInstant().toEpochMilli(), value));
-                }
-            }
+        } else if (count == 0) {
+            logger.warn("Persistence returned results for history query, but could not be interpreted as DecimalTypes");
+        }
+        return count;
+    }
+
+    /**
+     * Returns the width of the buckets the requested range is divided into. The width is rounded to whole seconds, so
+     * repeated requests for the same period (which only differ in the current time) can share their buckets.
+     */
+    private static long getBucketWidth(long start, long end) {
+        long width = Math.max(1, (end - start + MAX_POINTS - 1) / MAX_POINTS);
+        return Math.max(MIN_BUCKET_WIDTH, (width + MIN_BUCKET_WIDTH - 1) / MIN_BUCKET_WIDTH * MIN_BUCKET_WIDTH);
+    }
+
+    /**
+     * Average of the persisted values within one time bucket.
+     */
+    private static class Bucket {
+        private final long timestamp;
+        private BigDecimal sum = BigDecimal.ZERO;
+        private int count;
+
+        Bucket(long timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        void add(BigDecimal value) {
+            sum = sum.add(value);
+            count++;
+        }
+
+        HistoryItem toHistoryItem() {
+            Number value = count == 1 ? sum : sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL64);
+            return new HistoryItem(timestamp, value);
+        }
+    }
+
+    /**
+     * Downsampled history of a single device. Buckets are aligned to multiples of the bucket width, so only values
+     * stored after the last query (starting with the last, possibly incomplete bucket) need to be queried again.
+     */
+    private static class CachedHistory {
+        private final String itemName;
+        private final long bucketWidth;
+        private final TreeMap<Long, Bucket> buckets = new TreeMap<>();
+        private long queriedFrom = Long.MAX_VALUE;
+        private long queriedUntil = Long.MIN_VALUE;
+
+        CachedHistory(String itemName, long bucketWidth) {
+            this.itemName = itemName;
+            this.bucketWidth = bucketWidth;
+        }
+
+        boolean isUsableFor(String itemName, long bucketWidth, long start) {
+            return this.itemName.equals(itemName) && this.bucketWidth == bucketWidth
+                    && Math.floorDiv(start, bucketWidth) * bucketWidth >= queriedFrom;
+        }
 
-            if (resultItems.isEmpty()) {
-                logger.warn(
-                        "Persistence returned results for history query, but could not be interpreted as DecimalTypes");
+        long getResumeTime(long start) {
+            if (queriedUntil == Long.MIN_VALUE) {
+                queriedFrom = Math.floorDiv(start, bucketWidth) * bucketWidth;
+                return queriedFrom;
             }
+            return Math.floorDiv(queriedUntil, bucketWidth) * bucketWidth;
         }
 
-        return new HistoryList(resultItems);
+        void add(long timestamp, BigDecimal value) {
+            buckets.computeIfAbsent(Math.floorDiv(timestamp, bucketWidth), index -> new Bucket(timestamp)).add(value);
+        }
+
+        void removeFrom(long time) {
+            buckets.tailMap(Math.floorDiv(time, bucketWidth), true).clear();
+        }
+
+        void removeBefore(long time) {
+            long index = Math.floorDiv(time, bucketWidth);
+            buckets.headMap(index, false).clear();
+            queriedFrom = Math.max(queriedFrom, index * bucketWidth);
+        }
+
+        HistoryList toHistoryList(long start, long end) {
+            List<HistoryItem> items = new ArrayList<>(buckets.size());
+            for (Bucket bucket : buckets
+                    .subMap(Math.floorDiv(start, bucketWidth), true, Math.floorDiv(end, bucketWidth), true).values()) {
+                items.add(bucket.toHistoryItem());
+            }
+            return new HistoryList(items);
+        }
     }
 }
@@ -22,6 +22,9 @@ import org.openhab.io.imperihome.internal.processor.DeviceRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+
 /**
  * Device list request handler.
  *
@@ -32,12 +35,28 @@ public class DevicesListHandler {
     private final Logger logger = LoggerFactory.getLogger(DevicesListHandler.class);
 
     private final DeviceRegistry deviceRegistry;
+    private final Gson gson;
+
+    private long cachedRevision = -1;
+    private JsonElement cachedResponse;
 
-    public DevicesListHandler(DeviceRegistry deviceRegistry) {
+    public DevicesListHandler(DeviceRegistry deviceRegistry, Gson gson) {
         this.deviceRegistry = deviceRegistry;
+        this.gson = gson;
     }
 
-    public DeviceList handle(HttpServletRequest req) {
+    /**
+     * Returns the serialized device list. The list is only built again if any device changed since the previous
+     * request.
+     */
+    public synchronized JsonElement handle(HttpServletRequest req) {
+        // Taken before updating the params, so changes made by linked devices are picked up by the next request
+        long revision = deviceRegistry.getRevision();
+        if (cachedResponse != null && revision == cachedRevision) {
+            logger.trace("Device list unchanged since revision {}", revision);
+            return cachedResponse;
+        }
+
         DeviceList response = new DeviceList();
 
         Collection<AbstractDevice> devices = deviceRegistry.getDevices().values();
@@ -48,6 +67,8 @@ public class DevicesListHandler {
         response.setDevices(devices);
 
         logger.debug("Device list response: {}", response);
-        return response;
+        cachedResponse = gson.toJsonTree(response);
+        cachedRevision = revision;
+        return cachedResponse;
     }
 }
@@ -140,7 +140,19 @@ public abstract class AbstractDevice implements StateChangeListener {
 
     public void addParam(DeviceParam param) {
         logger.trace("Setting param for device {}: {}", this, param);
-        params.set(param);
+        if (!param.equals(params.set(param))) {
+            notifyChanged();
+        }
+    }
+
+    /**
+     * Notifies the device registry that the serialized form of this device changed.
+     */
+    protected void notifyChanged() {
+        DeviceRegistry deviceRegistry = this.deviceRegistry;
+        if (deviceRegistry != null) {
+            deviceRegistry.deviceChanged(this);
+        }
     }
 
     public Map<String, String> getLinks() {
@@ -64,7 +64,11 @@ public class MultiSwitchDevice extends AbstractDevice {
 
         State state = item.getStateAs(DecimalType.class);
         if (state instanceof DecimalType) {
-            itemValue = String.valueOf(((DecimalType) state).intValue());
+            String newValue = String.valueOf(((DecimalType) state).intValue());
+            if (!newValue.equals(itemValue)) {
+                itemValue = newValue;
+                notifyChanged();
+            }
         }
     }
 }
@@ -25,7 +25,7 @@ public class DeviceParameters extends HashMap<ParamType, DeviceParam> {
 
     private static final long serialVersionUID = -3877582034887195137L;
 
-    public void set(DeviceParam param) {
-        put(param.getKey(), param);
+    public DeviceParam set(DeviceParam param) {
+        return put(param.getKey(), param);
     }
 }
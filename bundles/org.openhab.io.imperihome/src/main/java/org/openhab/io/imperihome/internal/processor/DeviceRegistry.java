@@ -19,6 +19,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.openhab.io.imperihome.internal.model.Room;
 import org.openhab.io.imperihome.internal.model.device.AbstractDevice;
@@ -26,7 +27,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The device registry stores created devices by ID.
+ * The device registry stores created devices by ID. Its revision is increased whenever a device is added, removed or
+ * changed, which allows responses built from the devices to be reused until then.
  *
  * @author Pepijn de Geus - Initial contribution
  */
@@ -35,7 +37,8 @@ public class DeviceRegistry implements Iterable<AbstractDevice> {
     private final Logger logger = LoggerFactory.getLogger(DeviceRegistry.class);
 
     private final Map<String, AbstractDevice> devices;
-    private Set<Room> rooms;
+    private final AtomicLong revision = new AtomicLong();
+    private volatile Set<Room> rooms;
 
     public DeviceRegistry() {
         devices = new ConcurrentHashMap<>();
@@ -50,9 +53,37 @@ public class DeviceRegistry implements Iterable<AbstractDevice> {
     }
 
     public Collection<Room> getRooms() {
+        Set<Room> rooms = this.rooms;
+        if (rooms == null) {
+            rooms = new HashSet<>();
+            for (AbstractDevice device : devices.values()) {
+                Room room = new Room();
+                room.setId(device.getRoom());
+                room.setName(device.getRoomName());
+                rooms.add(room);
+            }
+            this.rooms = rooms;
+        }
         return new HashSet<>(rooms);
     }
 
+    /**
+     * Returns the current revision of the registry, which changes whenever any device is added, removed or changed.
+     */
+    public long getRevision() {
+        return revision.get();
+    }
+
+    /**
+     * Called by devices whenever their parameters or any other serialized value changed.
+     *
+     * @param device The changed device.
+     */
+    public void deviceChanged(AbstractDevice device) {
+        logger.trace("Device {} changed", device.getName());
+        revision.incrementAndGet();
+    }
+
     public boolean hasDevices() {
         return !devices.isEmpty();
     }
@@ -72,6 +103,7 @@ public class DeviceRegistry implements Iterable<AbstractDevice> {
 
         devices.put(device.getId(), device);
         updateRooms();
+        revision.incrementAndGet();
 
         logger.debug("Device {} added, registry now contains {} total", device.getName(), devices.size());
     }
@@ -80,6 +112,7 @@ public class DeviceRegistry implements Iterable<AbstractDevice> {
         AbstractDevice removed = devices.remove(deviceId);
         if (removed != null) {
             updateRooms();
+            revision.incrementAndGet();
             logger.debug("Device {} removed, registry now contains {} total", removed.getName(), devices.size());
         }
         return removed;
@@ -95,22 +128,14 @@ public class DeviceRegistry implements Iterable<AbstractDevice> {
             device.destroy();
         }
         devices.clear();
-
-        if (rooms != null) {
-            rooms.clear();
-        }
+        rooms = null;
+        revision.incrementAndGet();
 
         logger.debug("Device registry cleared");
     }
 
     private void updateRooms() {
-        Set<Room> newRooms = new HashSet<>();
-        for (AbstractDevice device : devices.values()) {
-            Room room = new Room();
-            room.setId(device.getRoom());
-            room.setName(device.getRoomName());
-            newRooms.add(room);
-        }
-        rooms = newRooms;
+        // Rooms are collected again on the next request, not for every single device added at startup
+        rooms = null;
     }
 }
@@ -116,6 +116,7 @@ public class ItemProcessor implements ItemRegistryChangeListener {
                 device.setName(getLabel(item, issTags));
                 device.setInverted(isInverted(issTags));
                 device.setActionRegistry(actionRegistry);
+                device.setDeviceRegistry(deviceRegistry);
 
                 setIcon(device, issTags);
                 setDeviceRoom(device, issTags);
@@ -241,9 +242,6 @@ public class ItemProcessor implements ItemRegistryChangeListener {
 
     private void setDeviceLinks(AbstractDevice device, Item item, Map<TagType, List<String>> issTags) {
         if (issTags.containsKey(TagType.LINK)) {
-            // Pass device registry to device for linked device lookup
-            device.setDeviceRegistry(deviceRegistry);
-
             // Parse link tags
             for (String link : issTags.get(TagType.LINK)) {
                 String[] parts = link.split(":");
@@ -23,6 +23,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -72,6 +74,9 @@ public class NeeoDeviceDefinitions {
     /** The file we store definitions in */
     private final File file = new File(NeeoConstants.FILENAME_DEVICEDEFINITIONS);
 
+    /** The listeners notified with the uid of an added, replaced or removed definition */
+    private final List<Consumer<NeeoThingUID>> changeListeners = new CopyOnWriteArrayList<>();
+
     /**
      * Create the object based on the {@link ServiceContext} and will read the definitions from the {@link #file}
      *
@@ -149,6 +154,7 @@ public class NeeoDeviceDefinitions {
 
         uidToDevice.put(device.getUid(), device);
         save();
+        notifyChanged(device.getUid());
     }
 
     /**
@@ -163,10 +169,38 @@ public class NeeoDeviceDefinitions {
         final boolean found = uidToDevice.remove(uid) != null;
         if (found) {
             save();
+            notifyChanged(uid);
         }
         return found;
     }
 
+    /**
+     * Adds a listener that is notified with the {@link NeeoThingUID} of each definition that is added, replaced or
+     * removed
+     *
+     * @param listener the non-null listener
+     */
+    public void addChangeListener(Consumer<NeeoThingUID> listener) {
+        Objects.requireNonNull(listener, "listener cannot be null");
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addChangeListener(Consumer)}
+     *
+     * @param listener the non-null listener
+     */
+    public void removeChangeListener(Consumer<NeeoThingUID> listener) {
+        Objects.requireNonNull(listener, "listener cannot be null");
+        changeListeners.remove(listener);
+    }
+
+    private void notifyChanged(NeeoThingUID uid) {
+        for (Consumer<NeeoThingUID> listener : changeListeners) {
+            listener.accept(uid);
+        }
+    }
+
     /**
      * Returns a list of {@link NeeoDevice} that have been exposed (where the type isn't {@link NeeoDeviceType#EXCLUDE})
      *
@@ -175,8 +209,7 @@ public class NeeoDeviceDefinitions {
     public List<NeeoDevice> getExposed() {
         final List<NeeoDevice> devices = new ArrayList<>();
         for (NeeoDevice device : exposeAll || exposeNeeoBinding ? getAllDevices() : uidToDevice.values()) {
-            if (device.getExposedChannels().length > 0 && !NeeoDeviceType.EXCLUDE.equals(device.getType())
-                    && StringUtils.isNotEmpty(device.getType().toString())) {
+            if (isExposed(device)) {
                 devices.add(device);
             }
         }
@@ -184,6 +217,37 @@ public class NeeoDeviceDefinitions {
         return devices;
     }
 
+    /**
+     * Returns the {@link NeeoDevice} for the given {@link NeeoThingUID} if it is exposed. The device is the same one
+     * that {@link #getExposed()} would return for the uid.
+     *
+     * @param uid the non-null uid
+     * @return the exposed device or null if the device is unknown or not exposed
+     */
+    @Nullable
+    public NeeoDevice getExposed(NeeoThingUID uid) {
+        Objects.requireNonNull(uid, "uid cannot be null");
+
+        NeeoDevice device = uidToDevice.get(uid);
+        if (exposeAll || exposeNeeoBinding) {
+            final boolean neeoBinding = StringUtils.equalsIgnoreCase(NeeoConstants.NEEOIO_BINDING_ID,
+                    uid.getBindingId());
+            if (device == null || !neeoBinding) {
+                final Thing thing = context.getThingRegistry().get(uid.asThingUID());
+                if (thing == null) {
+                    return null;
+                }
+                device = device == null ? converter.convert(thing) : device.merge(context);
+            }
+        }
+        return device != null && isExposed(device) ? device : null;
+    }
+
+    private static boolean isExposed(NeeoDevice device) {
+        return device.getExposedChannels().length > 0 && !NeeoDeviceType.EXCLUDE.equals(device.getType())
+                && StringUtils.isNotEmpty(device.getType().toString());
+    }
+
     /**
      *
      * Checks to see if the specified itemName is bound given the {@link NeeoDeviceKeys}. This method will find any
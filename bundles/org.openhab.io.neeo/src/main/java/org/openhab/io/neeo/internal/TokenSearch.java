@@ -13,19 +13,30 @@
 package org.openhab.io.neeo.internal;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.binding.BindingInfo;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.link.ItemChannelLink;
 import org.openhab.core.thing.type.ThingType;
 import org.openhab.io.neeo.internal.models.NeeoDevice;
+import org.openhab.io.neeo.internal.models.NeeoThingUID;
 import org.openhab.io.neeo.internal.models.TokenScore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,10 +45,15 @@ import org.slf4j.LoggerFactory;
  * The class emulates the same search pattern that the NEEO brain uses (https://github.com/neophob/tokensearch.js) on
  * all the exposed things in the registry.
  *
+ * The tokens of all exposed things are kept in an inverted index. Changes of things, of their links and of the device
+ * definitions mark the affected things, and only those are tokenized again before the next search. The tokens are
+ * also indexed by their lower case suffixes, so a search only scores the tokens that contain one of the search terms.
+ * Call {@link #close()} to stop listening to the changes.
+ *
  * @author Tim Roberts - Initial Contribution
  */
 @NonNullByDefault
-public class TokenSearch {
+public class TokenSearch implements AutoCloseable {
 
     private final Logger logger = LoggerFactory.getLogger(TokenSearch.class);
 
@@ -53,6 +69,75 @@ public class TokenSearch {
     /** The delimiter used to split search terms */
     private static final char DELIMITER = ' ';
 
+    /** The indexed devices by their uid */
+    private final Map<NeeoThingUID, IndexedDevice> indexedDevices = new HashMap<>();
+
+    /** The inverted index: each token with the devices containing it and the number of occurrences */
+    private final Map<String, Map<NeeoThingUID, Integer>> tokenIndex = new HashMap<>();
+
+    /** The lower case suffixes of all tokens with the tokens ending with them, a prefix lookup finds substrings */
+    private final NavigableMap<String, Set<String>> suffixIndex = new TreeMap<>();
+
+    /** The devices changed since the last search */
+    private final Set<NeeoThingUID> changedDevices = ConcurrentHashMap.newKeySet();
+
+    /** Whether all exposed devices have to be indexed again */
+    private volatile boolean rebuildIndex = true;
+
+    /** Marks the things that have been added, updated or removed */
+    private final RegistryChangeListener<Thing> thingListener = new RegistryChangeListener<Thing>() {
+        @Override
+        public void added(Thing element) {
+            changedDevices.add(new NeeoThingUID(element.getUID()));
+        }
+
+        @Override
+        public void removed(Thing element) {
+            changedDevices.add(new NeeoThingUID(element.getUID()));
+        }
+
+        @Override
+        public void updated(Thing oldElement, Thing element) {
+            changedDevices.add(new NeeoThingUID(element.getUID()));
+        }
+    };
+
+    /** Marks the things whose links have changed, as they decide which channels are exposed */
+    private final RegistryChangeListener<ItemChannelLink> linkListener = new RegistryChangeListener<ItemChannelLink>() {
+        @Override
+        public void added(ItemChannelLink element) {
+            changedDevices.add(new NeeoThingUID(element.getLinkedUID().getThingUID()));
+        }
+
+        @Override
+        public void removed(ItemChannelLink element) {
+            changedDevices.add(new NeeoThingUID(element.getLinkedUID().getThingUID()));
+        }
+
+        @Override
+        public void updated(ItemChannelLink oldElement, ItemChannelLink element) {
+            changedDevices.add(new NeeoThingUID(oldElement.getLinkedUID().getThingUID()));
+            changedDevices.add(new NeeoThingUID(element.getLinkedUID().getThingUID()));
+        }
+    };
+
+    /** Marks the devices whose definition has changed */
+    private final Consumer<NeeoThingUID> definitionListener = changedDevices::add;
+
+    /**
+     * A device in the token index together with the strings it has been tokenized from
+     */
+    private static class IndexedDevice {
+        private NeeoDevice device;
+        private final List<String> haystacks;
+        private final Map<String, Integer> tokens = new HashMap<>();
+
+        private IndexedDevice(NeeoDevice device, List<String> haystacks) {
+            this.device = device;
+            this.haystacks = haystacks;
+        }
+    }
+
     /**
      * Instantiates a new token search based on the {@link ServiceContext} and threshold
      *
@@ -79,6 +164,10 @@ public class TokenSearch {
             }
         }
         this.searchLimit = searchLimit;
+
+        context.getThingRegistry().addRegistryChangeListener(thingListener);
+        context.getItemChannelLinkRegistry().addRegistryChangeListener(linkListener);
+        context.getDefinitions().addChangeListener(definitionListener);
     }
 
     /**
@@ -87,62 +176,204 @@ public class TokenSearch {
      * @param query the non-empty query
      * @return a non-null result
      */
-    public Result search(String query) {
+    public synchronized Result search(String query) {
         NeeoUtil.requireNotEmpty(query, "query cannot be empty");
 
-        final List<TokenScore<NeeoDevice>> results = new ArrayList<>();
+        updateIndex();
 
         final String[] needles = StringUtils.split(query, DELIMITER);
-        int maxScore = -1;
-
-        for (NeeoDevice device : context.getDefinitions().getExposed()) {
-            int score = search(device.getName(), needles);
-            score += search("openhab", needles);
-            // score += searchAlgorithm(thing.getLocation(), needles);
-            score += search(device.getUid().getBindingId(), needles);
-
-            final Thing thing = context.getThingRegistry().get(device.getUid().asThingUID());
-            if (thing != null) {
-                final String location = thing.getLocation();
-                if (location != null && StringUtils.isNotEmpty(location)) {
-                    score += search(location, needles);
+
+        // Only the tokens containing one of the needles can score, each of them is scored once
+        final Set<String> candidates = new HashSet<>();
+        for (String needle : needles) {
+            final String prefix = needle.toLowerCase(Locale.ROOT);
+            for (Set<String> tokens : suffixIndex.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+                candidates.addAll(tokens);
+            }
+        }
+
+        final Map<NeeoThingUID, Integer> scores = new HashMap<>();
+        for (String token : candidates) {
+            final int tokenScore = searchAlgorithm(token, needles);
+            final Map<NeeoThingUID, Integer> postings = tokenIndex.get(token);
+            if (tokenScore > 0 && postings != null) {
+                for (Map.Entry<NeeoThingUID, Integer> posting : postings.entrySet()) {
+                    scores.merge(posting.getKey(), tokenScore * posting.getValue(), Integer::sum);
                 }
+            }
+        }
 
-                final Map<@NonNull String, String> properties = thing.getProperties();
-                final String vendor = properties.get(Thing.PROPERTY_VENDOR);
-                if (vendor != null && !vendor.isEmpty()) {
-                    score += search(vendor, needles);
+        // Devices without any matching token have a score of 0
+        int maxScore = indexedDevices.isEmpty() ? -1 : 0;
+        for (int score : scores.values()) {
+            maxScore = Math.max(maxScore, score);
+        }
+
+        final List<TokenScore<NeeoDevice>> results = new ArrayList<>();
+        if (threshold >= 1) {
+            for (IndexedDevice indexed : indexedDevices.values()) {
+                results.add(new TokenScore<>(scores.getOrDefault(indexed.device.getUid(), 0), indexed.device));
+            }
+        } else {
+            for (Map.Entry<NeeoThingUID, Integer> score : scores.entrySet()) {
+                final IndexedDevice indexed = indexedDevices.get(score.getKey());
+                if (indexed != null) {
+                    results.add(new TokenScore<>(score.getValue(), indexed.device));
                 }
+            }
+        }
 
-                final ThingType tt = context.getThingTypeRegistry().getThingType(thing.getThingTypeUID());
-                if (tt != null) {
-                    score += search(tt.getLabel(), needles);
+        return new Result(applyThreshold(results, maxScore, threshold), maxScore);
+    }
 
-                    final BindingInfo bi = context.getBindingInfoRegistry().getBindingInfo(tt.getBindingId());
-                    if (bi != null) {
-                        score += search(bi.getName(), needles);
-                    }
+    /**
+     * Stops listening to changes of the things, links and device definitions
+     */
+    @Override
+    public void close() {
+        context.getThingRegistry().removeRegistryChangeListener(thingListener);
+        context.getItemChannelLinkRegistry().removeRegistryChangeListener(linkListener);
+        context.getDefinitions().removeChangeListener(definitionListener);
+    }
+
+    /**
+     * Brings the token index up to date. All exposed devices are indexed on the first search, afterwards only the
+     * devices that have changed since the last search are looked at again.
+     */
+    private void updateIndex() {
+        if (rebuildIndex) {
+            rebuildIndex = false;
+            changedDevices.clear();
+
+            final Set<NeeoThingUID> exposed = new HashSet<>();
+            for (NeeoDevice device : context.getDefinitions().getExposed()) {
+                exposed.add(device.getUid());
+                indexDevice(device);
+            }
+            for (NeeoThingUID uid : new ArrayList<>(indexedDevices.keySet())) {
+                if (!exposed.contains(uid)) {
+                    removeDevice(uid);
                 }
             }
+            logger.debug("Indexed {} devices with {} tokens", indexedDevices.size(), tokenIndex.size());
+            return;
+        }
 
-            maxScore = Math.max(maxScore, score);
+        for (NeeoThingUID uid : new ArrayList<>(changedDevices)) {
+            changedDevices.remove(uid);
+            final NeeoDevice device = context.getDefinitions().getExposed(uid);
+            if (device == null) {
+                removeDevice(uid);
+            } else {
+                indexDevice(device);
+            }
+        }
+    }
 
-            results.add(new TokenScore<>(score, device));
+    /**
+     * Adds the device to the token index, or updates it if its searchable strings have changed
+     *
+     * @param device the non-null device
+     */
+    private void indexDevice(NeeoDevice device) {
+        final NeeoThingUID uid = device.getUid();
+        final List<String> haystacks = getHaystacks(device);
+        final IndexedDevice indexed = indexedDevices.get(uid);
+        if (indexed != null && indexed.haystacks.equals(haystacks)) {
+            indexed.device = device;
+            return;
         }
 
-        return new Result(applyThreshold(results, maxScore, threshold), maxScore);
+        removeDevice(uid);
+        final IndexedDevice newIndexed = new IndexedDevice(device, haystacks);
+        for (String haystack : haystacks) {
+            for (String token : StringUtils.split(haystack, DELIMITER)) {
+                newIndexed.tokens.merge(token, 1, Integer::sum);
+            }
+        }
+        newIndexed.tokens.forEach((token, count) -> {
+            Map<NeeoThingUID, Integer> postings = tokenIndex.get(token);
+            if (postings == null) {
+                postings = new HashMap<>();
+                tokenIndex.put(token, postings);
+                final String lowerToken = token.toLowerCase(Locale.ROOT);
+                for (int i = 0; i < lowerToken.length(); i++) {
+                    suffixIndex.computeIfAbsent(lowerToken.substring(i), k -> new HashSet<>()).add(token);
+                }
+            }
+            postings.put(uid, count);
+        });
+        indexedDevices.put(uid, newIndexed);
     }
 
     /**
-     * Search the 'haystack' for the needles. The 'haystack' will be broken up by delimiter and each part will be
-     * compared to the needles array and the resulting score summation returned.
+     * Removes the tokens of the given device from the token index
      *
-     * @param haystack the search term
-     * @param needles the items to search
-     * @return the score of the match
+     * @param uid the non-null device uid
      */
-    private int search(String haystack, String[] needles) {
-        return Arrays.stream(StringUtils.split(haystack, DELIMITER)).mapToInt(hs -> searchAlgorithm(hs, needles)).sum();
+    private void removeDevice(NeeoThingUID uid) {
+        final IndexedDevice indexed = indexedDevices.remove(uid);
+        if (indexed == null) {
+            return;
+        }
+        for (String token : indexed.tokens.keySet()) {
+            final Map<NeeoThingUID, Integer> postings = tokenIndex.get(token);
+            if (postings != null) {
+                postings.remove(uid);
+                if (postings.isEmpty()) {
+                    tokenIndex.remove(token);
+                    final String lowerToken = token.toLowerCase(Locale.ROOT);
+                    for (int i = 0; i < lowerToken.length(); i++) {
+                        final String suffix = lowerToken.substring(i);
+                        final Set<String> tokens = suffixIndex.get(suffix);
+                        if (tokens != null) {
+                            tokens.remove(token);
+                            if (tokens.isEmpty()) {
+                                suffixIndex.remove(suffix);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns all strings of the device that are searched
+     *
+     * @param device the non-null device
+     * @return the non-null list of strings
+     */
+    private List<String> getHaystacks(NeeoDevice device) {
+        final List<String> haystacks = new ArrayList<>();
+        haystacks.add(device.getName());
+        haystacks.add("openhab");
+        haystacks.add(device.getUid().getBindingId());
+
+        final Thing thing = context.getThingRegistry().get(device.getUid().asThingUID());
+        if (thing != null) {
+            final String location = thing.getLocation();
+            if (location != null && StringUtils.isNotEmpty(location)) {
+                haystacks.add(location);
+            }
+
+            final Map<@NonNull String, String> properties = thing.getProperties();
+            final String vendor = properties.get(Thing.PROPERTY_VENDOR);
+            if (vendor != null && !vendor.isEmpty()) {
+                haystacks.add(vendor);
+            }
+
+            final ThingType tt = context.getThingTypeRegistry().getThingType(thing.getThingTypeUID());
+            if (tt != null) {
+                haystacks.add(tt.getLabel());
+
+                final BindingInfo bi = context.getBindingInfoRegistry().getBindingInfo(tt.getBindingId());
+                if (bi != null) {
+                    haystacks.add(bi.getName());
+                }
+            }
+        }
+        return haystacks;
     }
 
     /**
@@ -193,17 +424,22 @@ public class TokenSearch {
         Objects.requireNonNull(collection, "collection cannot be null");
 
         final double normalizedScore = 1d / maxScore;
-        final List<TokenScore<NeeoDevice>> results = new ArrayList<>();
 
+        // Keep the first results in sort order within a bounded heap, its head is the one to drop next
+        final PriorityQueue<TokenScore<NeeoDevice>> heap = new PriorityQueue<>(Collections.reverseOrder());
         for (TokenScore<NeeoDevice> ts : collection) {
             double score = 1 - ts.getScore() * normalizedScore;
             if (score <= threshold) {
-                results.add(new TokenScore<>(score, ts.getItem()));
+                heap.add(new TokenScore<>(score, ts.getItem()));
+                if (heap.size() > searchLimit) {
+                    heap.poll();
+                }
             }
         }
 
-        // Sort and then limit by search limit
-        return results.stream().sorted().limit(searchLimit).collect(Collectors.toList());
+        final List<TokenScore<NeeoDevice>> results = new ArrayList<>(heap);
+        Collections.sort(results);
+        return results;
     }
 
     /**
@@ -26,6 +26,7 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.io.neeo.internal.NeeoConstants;
 import org.openhab.io.neeo.internal.NeeoUtil;
 import org.openhab.io.neeo.internal.ServiceContext;
@@ -59,6 +60,9 @@ public class NeeoBrainSearchService extends DefaultServletService {
     /** The context. */
     private final ServiceContext context;
 
+    /** The token search, keeping its token index between searches */
+    private @Nullable TokenSearch tokenSearch;
+
     /** The last search results */
     private final ConcurrentHashMap<Integer, NeeoThingUID> lastSearchResults = new ConcurrentHashMap<>();
 
@@ -235,7 +239,14 @@ public class NeeoBrainSearchService extends DefaultServletService {
      */
     private List<TokenScoreResult<NeeoDevice>> search(String queryString) {
         Objects.requireNonNull(queryString, "queryString cannot be null");
-        final TokenSearch tokenSearch = new TokenSearch(context, NeeoConstants.SEARCH_MATCHFACTOR);
+        TokenSearch tokenSearch;
+        synchronized (this) {
+            tokenSearch = this.tokenSearch;
+            if (tokenSearch == null) {
+                tokenSearch = new TokenSearch(context, NeeoConstants.SEARCH_MATCHFACTOR);
+                this.tokenSearch = tokenSearch;
+            }
+        }
         final TokenSearch.Result searchResult = tokenSearch.search(queryString);
 
         final List<TokenScoreResult<NeeoDevice>> searchItems = new ArrayList<>();
@@ -259,4 +270,21 @@ public class NeeoBrainSearchService extends DefaultServletService {
 
         return searchItems;
     }
+
+    /**
+     * Closes the token search, so it stops listening to changes
+     *
+     * @see DefaultServletService#close()
+     */
+    @Override
+    public void close() {
+        final TokenSearch tokenSearch;
+        synchronized (this) {
+            tokenSearch = this.tokenSearch;
+            this.tokenSearch = null;
+        }
+        if (tokenSearch != null) {
+            tokenSearch.close();
+        }
+    }
 }
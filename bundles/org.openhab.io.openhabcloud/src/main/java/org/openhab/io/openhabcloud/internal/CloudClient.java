@@ -19,19 +19,28 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Request.FailureListener;
 import org.eclipse.jetty.client.api.Response;
-import org.eclipse.jetty.client.api.Response.ContentListener;
+import org.eclipse.jetty.client.api.Response.AsyncContentListener;
 import org.eclipse.jetty.client.api.Response.HeadersListener;
 import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.client.util.BytesContentProvider;
@@ -40,6 +49,7 @@ import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
 import org.eclipse.jetty.util.URIUtil;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -70,6 +80,8 @@ public class CloudClient {
      */
     private final Logger logger = LoggerFactory.getLogger(CloudClient.class);
 
+    private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
+
     /*
      * This variable holds base URL for the openHAB Cloud connections
      */
@@ -100,6 +112,29 @@ public class CloudClient {
      */
     private final Map<Integer, Request> runningRequests = new ConcurrentHashMap<>();
 
+    /*
+     * The maximum number of requests to local openHAB which are proxied at the same time
+     */
+    private static final int MAX_CONCURRENT_REQUESTS = 10;
+
+    /*
+     * Requests to local openHAB which wait for one of the running requests to finish
+     */
+    private final Deque<Runnable> pendingRequests = new ArrayDeque<>();
+    private int activeRequests;
+
+    /*
+     * Callbacks of response content that has been handed to Socket.IO. Jetty does not deliver further content of a
+     * response until its callback is completed, which happens as soon as the Socket.IO transport has drained.
+     */
+    private final Queue<Callback> contentCallbacks = new ConcurrentLinkedQueue<>();
+
+    /*
+     * Statistics of the proxied requests
+     */
+    private final AtomicLong proxiedRequests = new AtomicLong();
+    private final AtomicLong proxiedBytes = new AtomicLong();
+
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
      */
@@ -129,6 +164,17 @@ public class CloudClient {
     private boolean remoteAccessEnabled;
     private Set<String> exposedItems;
 
+    /*
+     * Item updates are collected for this time and only the latest state of each item is sent. Items in
+     * immediateItems are sent right away.
+     */
+    private int itemUpdateInterval;
+    private Set<String> immediateItems = Collections.emptySet();
+    private final Map<String, String> pendingItemUpdates = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> itemUpdateJob;
+    private final AtomicLong sentItemUpdates = new AtomicLong();
+    private final AtomicLong droppedItemUpdates = new AtomicLong();
+
     /**
      * Constructor of CloudClient
      *
@@ -167,6 +213,14 @@ public class CloudClient {
             public void call(Object... args) {
                 logger.trace("Manager.EVENT_TRANSPORT");
                 Transport transport = (Transport) args[0];
+                // content handed to a former transport will not be drained by the new one
+                completeContentCallbacks();
+                transport.on(Transport.EVENT_DRAIN, new Emitter.Listener() {
+                    @Override
+                    public void call(Object... args) {
+                        completeContentCallbacks();
+                    }
+                });
                 transport.on(Transport.EVENT_REQUEST_HEADERS, new Emitter.Listener() {
                     @Override
                     public void call(Object... args) {
@@ -244,6 +298,46 @@ public class CloudClient {
         isConnected = false;
         // And clean up the list of running requests
         runningRequests.clear();
+        completeContentCallbacks();
+    }
+
+    private void completeContentCallbacks() {
+        // Jetty may deliver the next content from within succeeded(), its callback has to wait for the next drain
+        List<Callback> callbacks = new ArrayList<>();
+        Callback callback;
+        while ((callback = contentCallbacks.poll()) != null) {
+            callbacks.add(callback);
+        }
+        callbacks.forEach(Callback::succeeded);
+    }
+
+    /**
+     * Send the given request right away, or as soon as one of the running requests has finished if there are
+     * already {@link #MAX_CONCURRENT_REQUESTS} requests running.
+     */
+    private void submitRequest(int requestId, Runnable send) {
+        synchronized (pendingRequests) {
+            if (activeRequests >= MAX_CONCURRENT_REQUESTS) {
+                logger.debug("Request {} has to wait for {} running requests", requestId, activeRequests);
+                pendingRequests.add(send);
+                return;
+            }
+            activeRequests++;
+        }
+        send.run();
+    }
+
+    private void requestFinished() {
+        Runnable next;
+        synchronized (pendingRequests) {
+            next = pendingRequests.poll();
+            if (next == null) {
+                activeRequests--;
+            }
+        }
+        if (next != null) {
+            next.run();
+        }
     }
 
     /**
@@ -333,10 +427,14 @@ public class CloudClient {
                 return;
             }
             ResponseListener listener = new ResponseListener(requestId);
-            request.onResponseHeaders(listener).onResponseContent(listener).onRequestFailure(listener).send(listener);
-            // If successfully submitted request to http client, add it to the list of currently
-            // running requests to be able to cancel it if needed
+            request.onResponseHeaders(listener).onResponseContentAsync(listener).onRequestFailure(listener);
+            // Add it to the list of currently running requests to be able to cancel it if needed.
+            // A cancelled request which is still waiting fails right away when it is sent.
             runningRequests.put(requestId, request);
+            submitRequest(requestId, () -> {
+                listener.start();
+                request.send(listener);
+            });
         } catch (JSONException | IOException | URISyntaxException e) {
             logger.debug("{}", e.getMessage());
         }
@@ -463,13 +561,42 @@ public class CloudClient {
     }
 
     /**
-     * Send item update to openHAB Cloud
+     * Send item update to openHAB Cloud. Unless the item is configured to be sent immediately, the update is
+     * collected for the item update interval and replaced by later updates of the same item within that time.
      *
      * @param itemName the name of the item
      * @param itemState updated item state
      *
      */
     public void sendItemUpdate(String itemName, String itemState) {
+        if (itemUpdateInterval <= 0 || immediateItems.contains(itemName)) {
+            emitItemUpdate(itemName, itemState);
+            return;
+        }
+        synchronized (pendingItemUpdates) {
+            if (pendingItemUpdates.put(itemName, itemState) != null) {
+                droppedItemUpdates.incrementAndGet();
+            }
+            ScheduledFuture<?> job = itemUpdateJob;
+            if (job == null || job.isDone()) {
+                itemUpdateJob = ThreadPoolManager.getScheduledPool(THREADPOOL_OPENHABCLOUD)
+                        .schedule(this::sendPendingItemUpdates, itemUpdateInterval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void sendPendingItemUpdates() {
+        Map<String, String> updates;
+        synchronized (pendingItemUpdates) {
+            updates = new LinkedHashMap<>(pendingItemUpdates);
+            pendingItemUpdates.clear();
+        }
+        updates.forEach(this::emitItemUpdate);
+        logger.debug("Sent {} item updates, {} updates sent and {} intermediate updates dropped in total",
+                updates.size(), sentItemUpdates.get(), droppedItemUpdates.get());
+    }
+
+    private void emitItemUpdate(String itemName, String itemState) {
         if (isConnected()) {
             logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
             JSONObject itemUpdateMessage = new JSONObject();
@@ -477,6 +604,7 @@ public class CloudClient {
                 itemUpdateMessage.put("itemName", itemName);
                 itemUpdateMessage.put("itemStatus", itemState);
                 socket.emit("itemupdate", itemUpdateMessage);
+                sentItemUpdates.incrementAndGet();
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
@@ -485,6 +613,32 @@ public class CloudClient {
         }
     }
 
+    /**
+     * Configure the coalescing of item updates.
+     *
+     * @param itemUpdateInterval the time in milliseconds item updates are collected, 0 to send them right away
+     * @param immediateItems the items whose updates are always sent right away
+     */
+    public void setItemUpdateInterval(int itemUpdateInterval, Set<String> immediateItems) {
+        this.itemUpdateInterval = itemUpdateInterval;
+        this.immediateItems = immediateItems;
+    }
+
+    /**
+     * Returns the number of item updates sent to the openHAB Cloud
+     */
+    public long getSentItemUpdates() {
+        return sentItemUpdates.get();
+    }
+
+    /**
+     * Returns the number of item updates which have not been sent, because a later update of the same item replaced
+     * them
+     */
+    public long getDroppedItemUpdates() {
+        return droppedItemUpdates.get();
+    }
+
     /**
      * Returns true if openHAB Cloud connection is active
      */
@@ -497,6 +651,10 @@ public class CloudClient {
      */
     public void shutdown() {
         logger.info("Shutting down openHAB Cloud service connection");
+        ScheduledFuture<?> job = itemUpdateJob;
+        if (job != null) {
+            job.cancel(false);
+        }
         socket.disconnect();
     }
 
@@ -516,16 +674,21 @@ public class CloudClient {
      * An internal class which forwards response headers and data back to the openHAB Cloud
      */
     private class ResponseListener
-            implements Response.CompleteListener, HeadersListener, ContentListener, FailureListener {
+            implements Response.CompleteListener, HeadersListener, AsyncContentListener, FailureListener {
 
-        private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
         private int mRequestId;
         private boolean mHeadersSent = false;
+        private long startTime;
+        private long contentBytes;
 
         public ResponseListener(int requestId) {
             mRequestId = requestId;
         }
 
+        public void start() {
+            startTime = System.nanoTime();
+        }
+
         private JSONObject getJSONHeaders(HttpFields httpFields) {
             JSONObject headersJSON = new JSONObject();
             try {
@@ -542,6 +705,11 @@ public class CloudClient {
         public void onComplete(Result result) {
             // Remove this request from list of running requests
             runningRequests.remove(mRequestId);
+            requestFinished();
+            long requests = proxiedRequests.incrementAndGet();
+            long bytes = proxiedBytes.addAndGet(contentBytes);
+            logger.debug("Request {} took {} ms for {} bytes ({} requests with {} bytes in total)", mRequestId,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), contentBytes, requests, bytes);
             if ((result != null && result.isFailed())
                     && (result.getResponse() != null && result.getResponse().getStatus() != HttpStatus.OK_200)) {
                 if (result.getFailure() != null) {
@@ -585,16 +753,21 @@ public class CloudClient {
         }
 
         @Override
-        public void onContent(Response response, ByteBuffer content) {
+        public void onContent(Response response, ByteBuffer content, Callback callback) {
             logger.debug("Jetty received response content of size {}", String.valueOf(content.remaining()));
+            contentBytes += content.remaining();
             JSONObject responseJson = new JSONObject();
             try {
                 responseJson.put("id", mRequestId);
+                // Socket.IO sends byte arrays as binary attachments, only the id is JSON encoded
                 responseJson.put("body", BufferUtil.toArray(content));
+                // Jetty pauses this response until the content has been written by the transport
+                contentCallbacks.add(callback);
                 socket.emit("responseContentBinary", responseJson);
                 logger.debug("Sent content to request {}", mRequestId);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
+                callback.failed(e);
             }
         }
 
@@ -73,6 +73,9 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private static final String CFG_EXPOSE = "expose";
     private static final String CFG_BASE_URL = "baseURL";
     private static final String CFG_MODE = "mode";
+    private static final String CFG_ITEM_UPDATE_INTERVAL = "itemUpdateInterval";
+    private static final String CFG_EXPOSE_IMMEDIATELY = "exposeImmediately";
+    private static final int DEFAULT_ITEM_UPDATE_INTERVAL = 0;
     private static final String SECRET_FILE_NAME = "openhabcloud" + File.separator + "secret";
     private static final String DEFAULT_URL = "https://myopenhab.org/";
     private static final int DEFAULT_LOCAL_OPENHAB_MAX_CONCURRENT_REQUESTS = 200;
@@ -207,22 +210,16 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
             cloudBaseUrl = DEFAULT_URL;
         }
 
-        exposedItems = new HashSet<>();
-        Object expCfg = config.get(CFG_EXPOSE);
-        if (expCfg instanceof String) {
-            String value = (String) expCfg;
-            while (value.startsWith("[")) {
-                value = value.substring(1);
-            }
-            while (value.endsWith("]")) {
-                value = value.substring(0, value.length() - 1);
-            }
-            for (String itemName : Arrays.asList((value).split(","))) {
-                exposedItems.add(itemName.trim());
-            }
-        } else if (expCfg instanceof Iterable) {
-            for (Object entry : ((Iterable<?>) expCfg)) {
-                exposedItems.add(entry.toString());
+        exposedItems = parseItemNames(config.get(CFG_EXPOSE));
+        Set<String> immediateItems = parseItemNames(config.get(CFG_EXPOSE_IMMEDIATELY));
+        int itemUpdateInterval = DEFAULT_ITEM_UPDATE_INTERVAL;
+        Object intervalCfg = config.get(CFG_ITEM_UPDATE_INTERVAL);
+        if (intervalCfg != null) {
+            try {
+                itemUpdateInterval = Integer.parseInt(intervalCfg.toString().trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid item update interval '{}', using {} ms", intervalCfg,
+                        DEFAULT_ITEM_UPDATE_INTERVAL);
             }
         }
 
@@ -244,11 +241,33 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
         cloudClient = new CloudClient(httpClient, InstanceUUID.get(), getSecret(), cloudBaseUrl, localBaseUrl,
                 remoteAccessEnabled, exposedItems);
         cloudClient.setOpenHABVersion(OpenHAB.getVersion());
+        cloudClient.setItemUpdateInterval(itemUpdateInterval, immediateItems);
         cloudClient.connect();
         cloudClient.setListener(this);
         NotificationAction.cloudService = this;
     }
 
+    private Set<String> parseItemNames(@Nullable Object cfg) {
+        Set<String> itemNames = new HashSet<>();
+        if (cfg instanceof String) {
+            String value = (String) cfg;
+            while (value.startsWith("[")) {
+                value = value.substring(1);
+            }
+            while (value.endsWith("]")) {
+                value = value.substring(0, value.length() - 1);
+            }
+            for (String itemName : Arrays.asList((value).split(","))) {
+                itemNames.add(itemName.trim());
+            }
+        } else if (cfg instanceof Iterable) {
+            for (Object entry : ((Iterable<?>) cfg)) {
+                itemNames.add(entry.toString());
+            }
+        }
+        return itemNames;
+    }
+
     @Override
     public String getActionClassName() {
         return NotificationAction.class.getCanonicalName();
@@ -99,4 +99,36 @@ public class DiscoverComponentsTest extends JavaOSGiTest {
 
         discover.startDiscovery(connection, 50, discoveryIds, discovered).get(100, TimeUnit.MILLISECONDS);
     }
+
+    @Test
+    public void unchangedConfigIsNotParsedAgain()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+
+        Gson gson = new GsonBuilder().registerTypeAdapterFactory(new ChannelConfigurationTypeAdapterFactory()).create();
+
+        DiscoverComponents discover = new DiscoverComponents(ThingChannelConstants.testHomeAssistantThing, scheduler,
+                channelStateUpdateListener, availabilityTracker, gson, transformationServiceProvider);
+
+        HandlerConfiguration config = new HandlerConfiguration("homeassistant",
+                Collections.singletonList("switch/object"));
+
+        Set<HaID> discoveryIds = new HashSet<>();
+        discoveryIds.addAll(HaID.fromConfig(config));
+
+        discover.startDiscovery(connection, 0, discoveryIds, discovered).get(100, TimeUnit.MILLISECONDS);
+
+        final String topic = "homeassistant/switch/object/config";
+        final String configJSON = "{'name':'testname','state_topic':'homeassistant/switch/object/state'}";
+
+        discover.processMessage(topic, configJSON.getBytes());
+        discover.processMessage(topic, configJSON.getBytes());
+        verify(discovered, times(1)).componentDiscovered(any(), any());
+
+        discover.processMessage(topic,
+                "{'name':'othername','state_topic':'homeassistant/switch/object/state'}".getBytes());
+        verify(discovered, times(2)).componentDiscovered(any(), any());
+
+        discover.stopDiscovery();
+    }
 }